@@ -0,0 +1,71 @@
+package com.nexus.jobboard.application.dto.message;
+
+import com.nexus.jobboard.domain.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Job application batch message DTO following SRP
+ * - Single responsibility: Carry one chunk of a bulk status change, the job and the new status
+ *   are shared, only the applicants differ
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationBatchMessage {
+    
+    private Long jobId;
+    private Long employerId;
+    private String jobTitle;
+    private String companyName;
+    private ApplicationStatus status;
+    private String notes;
+    private LocalDateTime eventTime;
+    private JobApplicationMessage.JobApplicationEventType eventType;
+    @Builder.Default
+    private List<Recipient> recipients = new ArrayList<>();
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Recipient {
+        
+        private Long applicationId;
+        private Long applicantId;
+        private String applicantName;
+        private String applicantEmail;
+        private ApplicationStatus previousStatus;
+    }
+    
+    /**
+     * Expands the batch into the per-application messages the notification handlers expect
+     */
+    public List<JobApplicationMessage> toMessages() {
+        return recipients.stream()
+                .map(recipient -> JobApplicationMessage.builder()
+                        .applicationId(recipient.getApplicationId())
+                        .jobId(jobId)
+                        .applicantId(recipient.getApplicantId())
+                        .employerId(employerId)
+                        .jobTitle(jobTitle)
+                        .companyName(companyName)
+                        .applicantName(recipient.getApplicantName())
+                        .applicantEmail(recipient.getApplicantEmail())
+                        .status(status)
+                        .previousStatus(recipient.getPreviousStatus())
+                        .notes(notes)
+                        .eventType(eventType)
+                        .eventTime(eventTime)
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexus.jobboard.application.dto.request;
+
+/**
+ * Export format enumeration following SRP
+ * - Single responsibility: Define the wire formats of the streaming job export
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "One JSON object per line"),
+    CSV("text/csv", "Comma separated values with a header row");
+    
+    private final String contentType;
+    private final String description;
+    
+    ExportFormat(String contentType, String description) {
+        this.contentType = contentType;
+        this.description = description;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
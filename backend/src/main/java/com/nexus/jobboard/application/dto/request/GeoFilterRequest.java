@@ -0,0 +1,36 @@
+package com.nexus.jobboard.application.dto.request;
+
+import lombok.Data;
+
+/**
+ * Geographic job filter DTO following SRP
+ * - Single responsibility: Carry the radius and bounding box criteria of a job filter
+ * - The center is either a place name resolved by the gazetteer (near) or explicit coordinates
+ */
+@Data
+public class GeoFilterRequest {
+    
+    private String near;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    
+    private Double minLatitude;
+    private Double minLongitude;
+    private Double maxLatitude;
+    private Double maxLongitude;
+    
+    private boolean sortByDistance;
+    
+    public boolean hasCenter() {
+        return near != null || (latitude != null && longitude != null);
+    }
+    
+    public boolean hasBoundingBox() {
+        return minLatitude != null && minLongitude != null && maxLatitude != null && maxLongitude != null;
+    }
+    
+    public boolean isEmpty() {
+        return radiusKm == null && !hasBoundingBox() && !(sortByDistance && hasCenter());
+    }
+}
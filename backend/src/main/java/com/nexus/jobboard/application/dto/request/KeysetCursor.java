@@ -0,0 +1,63 @@
+package com.nexus.jobboard.application.dto.request;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor following SRP
+ * - Single responsibility: Carry the (timestamp, id) position of the last row a client has seen
+ * - Encoded as an opaque URL-safe token so clients cannot depend on its layout
+ */
+@Value
+public class KeysetCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    /**
+     * Later than any stored timestamp, yet still representable in PostgreSQL
+     */
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    
+    LocalDateTime timestamp;
+    Long id;
+    
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Position before the newest possible row, used when the client sends no cursor
+     */
+    public static KeysetCursor start() {
+        return new KeysetCursor(LATEST, Long.MAX_VALUE);
+    }
+    
+    public static KeysetCursor decodeOrStart(String token) {
+        return token == null || token.isBlank() ? start() : decode(token);
+    }
+    
+    /**
+     * Decode a token produced by {@link #encode()}
+     * 
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor", e);
+        }
+    }
+}
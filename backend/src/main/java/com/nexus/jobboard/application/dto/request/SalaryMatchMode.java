@@ -0,0 +1,20 @@
+package com.nexus.jobboard.application.dto.request;
+
+/**
+ * Salary match mode enumeration following SRP
+ * - Single responsibility: Define how a requested salary range is compared with a job's advertised range
+ */
+public enum SalaryMatchMode {
+    WITHIN("Advertised range lies inside the requested range, compared as posted"),
+    OVERLAPS("Advertised range overlaps the requested yearly range, after converting the job's pay to yearly");
+    
+    private final String description;
+    
+    SalaryMatchMode(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,30 @@
+package com.nexus.jobboard.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Saved search request DTO following SRP
+ * - Single responsibility: Handle saved search creation data
+ */
+@Data
+public class SavedSearchRequest {
+    
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+    
+    @Valid
+    @NotNull(message = "Search criteria is required")
+    private JobSearchRequest criteria;
+    
+    /**
+     * Check if the criteria can be used for job alerts
+     */
+    public boolean isValidCriteria() {
+        return criteria.hasSearchCriteria() && criteria.isValidSalaryRange();
+    }
+}
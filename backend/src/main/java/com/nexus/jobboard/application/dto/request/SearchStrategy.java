@@ -0,0 +1,22 @@
+package com.nexus.jobboard.application.dto.request;
+
+/**
+ * Search strategy enumeration following SRP
+ * - Single responsibility: Select the access path used to answer a text search
+ */
+public enum SearchStrategy {
+    INDEX("Node-local in-memory inverted index"),
+    FULL_TEXT("PostgreSQL full-text search ranked by ts_rank"),
+    LIKE("Case-insensitive substring match in the database"),
+    FUZZY("Typo-tolerant trigram matching, in memory when the index is loaded and pg_trgm otherwise");
+    
+    private final String description;
+    
+    SearchStrategy(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,21 @@
+package com.nexus.jobboard.application.dto.request;
+
+/**
+ * Skill match mode enumeration following SRP
+ * - Single responsibility: Define how many of the requested skills a job must require
+ */
+public enum SkillMatchMode {
+    ANY("At least one of the requested skills"),
+    ALL("Every requested skill"),
+    AT_LEAST("At least the given number of requested skills");
+    
+    private final String description;
+    
+    SkillMatchMode(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,67 @@
+package com.nexus.jobboard.application.dto.response;
+
+import com.nexus.jobboard.application.dto.request.KeysetCursor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cursor page response DTO following SRP
+ * - Single responsibility: Present one keyset page and the token for the next one
+ * - Carries no total count, so producing it never needs a COUNT query
+ */
+@Data
+@Builder
+public class CursorPage<T> {
+    
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+    
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    
+    /**
+     * Clamp a client-requested page size to [1, MAX_SIZE]
+     */
+    public static int clampSize(int requestedSize) {
+        return Math.max(1, Math.min(requestedSize, MAX_SIZE));
+    }
+    
+    /**
+     * Build a page from rows fetched with a limit of {@code size + 1}; the extra row only signals that more exist
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        
+        String nextCursor = hasNext && !pageRows.isEmpty()
+                ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+        
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).collect(Collectors.toList()))
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Same page with its content converted as a whole, for mappers that batch their lookups
+     */
+    public <R> CursorPage<R> mapContent(Function<List<T>, List<R>> mapper) {
+        return CursorPage.<R>builder()
+                .content(mapper.apply(content))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
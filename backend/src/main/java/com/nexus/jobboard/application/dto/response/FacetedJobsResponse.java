@@ -0,0 +1,23 @@
+package com.nexus.jobboard.application.dto.response;
+
+import com.nexus.jobboard.infrastructure.search.JobFacets;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+/**
+ * Faceted job listing DTO following SRP
+ * - Single responsibility: Pair a filtered page of jobs with the facet counts shown next to the filters
+ * - facets is null while the in-memory facet index is still loading
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedJobsResponse {
+    
+    private Page<JobResponse> jobs;
+    private JobFacets facets;
+}
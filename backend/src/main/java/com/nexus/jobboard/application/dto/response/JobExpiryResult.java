@@ -0,0 +1,25 @@
+package com.nexus.jobboard.application.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Job expiry result DTO following SRP
+ * - Single responsibility: Report what one expiry of given jobs changed and what it found already closed
+ * - alreadyInactiveJobIds is read in the expiring transaction on the primary, after the row locks were granted
+ */
+@Data
+@Builder
+public class JobExpiryResult {
+    
+    private int deactivated;
+    @Builder.Default
+    private List<Long> alreadyInactiveJobIds = Collections.emptyList();
+    
+    public static JobExpiryResult empty() {
+        return JobExpiryResult.builder().build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.nexus.jobboard.application.dto.response;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Job export row DTO following SRP
+ * - Single responsibility: Flat job record written by the streaming export
+ * - Only columns read in the export query itself, so writing a row never triggers a lazy load
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobExportRow {
+    
+    private Long id;
+    private String title;
+    private String companyName;
+    private String categoryName;
+    private String location;
+    private JobType jobType;
+    private ExperienceLevel experienceLevel;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private SalaryType salaryType;
+    private Boolean isRemote;
+    private LocalDateTime applicationDeadline;
+    private LocalDateTime createdAt;
+}
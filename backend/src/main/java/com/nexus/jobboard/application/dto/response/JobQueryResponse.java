@@ -0,0 +1,23 @@
+package com.nexus.jobboard.application.dto.response;
+
+import com.nexus.jobboard.infrastructure.search.QueryPlan;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+/**
+ * Combined job query DTO following SRP
+ * - Single responsibility: Pair a page of matching jobs with the plan that produced it
+ * - plan is null unless the caller asked for an explanation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobQueryResponse {
+    
+    private Page<JobResponse> jobs;
+    private QueryPlan plan;
+}
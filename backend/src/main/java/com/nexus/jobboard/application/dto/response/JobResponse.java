@@ -27,6 +27,9 @@ public class JobResponse {
     private JobType jobType;
     private ExperienceLevel experienceLevel;
     private String location;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
     private BigDecimal salaryMin;
     private BigDecimal salaryMax;
     private SalaryType salaryType;
@@ -53,11 +56,12 @@ public class JobResponse {
     }
     
     public boolean isApplicationDeadlinePassed() {
-        return applicationDeadline != null && LocalDateTime.now().isAfter(applicationDeadline);
+        return applicationDeadline != null && !LocalDateTime.now().isBefore(applicationDeadline);
     }
     
+    // Same rule as Job.canAcceptApplications, the deadline wheel closes jobs at their deadline
     public boolean canAcceptApplications() {
-        return Boolean.TRUE.equals(isActive) && !isApplicationDeadlinePassed();
+        return Boolean.TRUE.equals(isActive);
     }
     
     public String getSalaryRange() {
@@ -0,0 +1,40 @@
+package com.nexus.jobboard.application.dto.response;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Job summary response DTO following SRP
+ * - Single responsibility: Present one row of a job list, details come from /jobs/{jobId}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryResponse {
+    
+    private Long id;
+    private String title;
+    private String companyName;
+    private String companyLogoUrl;
+    private String location;
+    private JobType jobType;
+    private ExperienceLevel experienceLevel;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private SalaryType salaryType;
+    private Boolean isRemote;
+    private LocalDateTime createdAt;
+    
+    public String getJobTypeDescription() {
+        return jobType != null ? jobType.getDescription() : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.nexus.jobboard.application.dto.response;
+
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saved search response DTO following SRP
+ * - Single responsibility: Present saved search data to clients
+ */
+@Data
+@Builder
+public class SavedSearchResponse {
+    
+    private Long id;
+    private String name;
+    private JobSearchRequest criteria;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
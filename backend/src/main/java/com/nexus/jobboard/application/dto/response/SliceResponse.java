@@ -0,0 +1,33 @@
+package com.nexus.jobboard.application.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Slice response DTO following SRP
+ * - Single responsibility: Present one page of results with a "has next" flag instead of a total count
+ * - approximateTotal is only filled when the caller asked for it, and may be an estimate
+ */
+@Data
+@Builder
+public class SliceResponse<T> {
+    
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+    
+    public static <T> SliceResponse<T> of(Slice<T> slice, Long approximateTotal) {
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .approximateTotal(approximateTotal)
+                .build();
+    }
+}
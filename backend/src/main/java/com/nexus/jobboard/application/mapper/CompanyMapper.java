@@ -4,6 +4,7 @@ import com.nexus.jobboard.application.dto.response.CompanyResponse;
 import com.nexus.jobboard.domain.model.Company;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 /**
  * Company mapper following SRP
@@ -14,4 +15,11 @@ public interface CompanyMapper {
     
     @Mapping(target = "activeJobCount", expression = "java(company.getActiveJobCount())")
     CompanyResponse toResponse(Company company);
+    
+    /**
+     * Page item variant, activeJobCount is filled from one grouped query for the whole page
+     */
+    @Named("withoutJobCounts")
+    @Mapping(target = "activeJobCount", ignore = true)
+    CompanyResponse toResponseWithoutJobCounts(Company company);
 }
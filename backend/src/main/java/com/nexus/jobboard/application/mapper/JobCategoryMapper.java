@@ -4,6 +4,7 @@ import com.nexus.jobboard.application.dto.response.JobCategoryResponse;
 import com.nexus.jobboard.domain.model.JobCategory;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 /**
  * Job category mapper following SRP
@@ -15,4 +16,12 @@ public interface JobCategoryMapper {
     @Mapping(target = "jobCount", expression = "java(jobCategory.getJobCount())")
     @Mapping(target = "activeJobCount", expression = "java(jobCategory.getActiveJobCount())")
     JobCategoryResponse toResponse(JobCategory jobCategory);
+    
+    /**
+     * Page item variant, the job counts are filled from one grouped query for the whole page
+     */
+    @Named("withoutJobCounts")
+    @Mapping(target = "jobCount", ignore = true)
+    @Mapping(target = "activeJobCount", ignore = true)
+    JobCategoryResponse toResponseWithoutJobCounts(JobCategory jobCategory);
 }
@@ -1,9 +1,13 @@
 package com.nexus.jobboard.application.mapper;
 
+import com.nexus.jobboard.application.dto.response.JobExportRow;
 import com.nexus.jobboard.application.dto.response.JobResponse;
+import com.nexus.jobboard.application.dto.response.JobSummaryResponse;
 import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.repository.JobSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 /**
  * Job mapper following SRP
@@ -13,5 +17,22 @@ import org.mapstruct.Mapping;
 public interface JobMapper {
     
     @Mapping(target = "applicationCount", expression = "java(job.getApplicationCount())")
+    @Mapping(target = "distanceKm", ignore = true)
     JobResponse toResponse(Job job);
+    
+    /**
+     * Listing variant that never walks the company or category job collections, see JobServiceImpl.toResponses
+     */
+    @Named("pageItem")
+    @Mapping(target = "applicationCount", expression = "java(job.getApplicationCount())")
+    @Mapping(target = "distanceKm", ignore = true)
+    @Mapping(target = "company", qualifiedByName = "withoutJobCounts")
+    @Mapping(target = "category", qualifiedByName = "withoutJobCounts")
+    JobResponse toPageItem(Job job);
+    
+    @Mapping(target = "companyName", source = "company.name")
+    @Mapping(target = "categoryName", source = "category.name")
+    JobExportRow toExportRow(Job job);
+    
+    JobSummaryResponse toSummaryResponse(JobSummary summary);
 }
@@ -0,0 +1,19 @@
+package com.nexus.jobboard.application.service;
+
+import com.nexus.jobboard.infrastructure.search.AutocompleteSuggestion;
+import com.nexus.jobboard.infrastructure.search.SuggestionType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Autocomplete service interface following ISP
+ * - Single responsibility: Type-ahead suggestions for the search box
+ */
+public interface AutocompleteService {
+    
+    /**
+     * Suggestions starting with the prefix, limited to the given types (all types when empty)
+     */
+    List<AutocompleteSuggestion> suggest(String prefix, Set<SuggestionType> types, int limit);
+}
@@ -2,12 +2,14 @@ package com.nexus.jobboard.application.service;
 
 import com.nexus.jobboard.application.dto.request.JobApplicationRequest;
 import com.nexus.jobboard.application.dto.request.ApplicationStatusUpdateRequest;
+import com.nexus.jobboard.application.dto.response.CursorPage;
 import com.nexus.jobboard.application.dto.response.JobApplicationResponse;
 import com.nexus.jobboard.domain.model.ApplicationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -39,6 +41,11 @@ public interface JobApplicationService {
      */
     Page<JobApplicationResponse> getApplicationsByJob(Long jobId, Pageable pageable);
     
+    /**
+     * Get applications for a job newest first using keyset pagination (no total count)
+     */
+    CursorPage<JobApplicationResponse> getApplicationsByJob(Long jobId, ApplicationStatus status, String cursor, int size);
+    
     /**
      * Get applications by applicant (Job Seeker)
      */
@@ -71,6 +78,11 @@ public interface JobApplicationService {
     
     Long getApplicationCountByApplicant(Long applicantId);
     
+    /**
+     * Application counts of a job for every status, read from the job's maintained counters
+     */
+    Map<ApplicationStatus, Integer> getApplicationCountsByStatus(Long jobId);
+    
     /**
      * Bulk update applications (Admin only)
      */
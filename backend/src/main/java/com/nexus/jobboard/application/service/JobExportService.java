@@ -0,0 +1,20 @@
+package com.nexus.jobboard.application.service;
+
+import com.nexus.jobboard.application.dto.request.ExportFormat;
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Job export service interface following ISP
+ * - Single responsibility: Bulk export of active jobs matching search criteria
+ */
+public interface JobExportService {
+    
+    /**
+     * Stream every active job matching the criteria to the output in id order, returns the number of rows written.
+     * Skills are matched with ANY semantics; the output is flushed in batches but not closed.
+     */
+    long exportJobs(JobSearchRequest criteria, ExportFormat format, OutputStream output) throws IOException;
+}
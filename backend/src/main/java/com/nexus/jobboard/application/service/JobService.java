@@ -1,15 +1,27 @@
 package com.nexus.jobboard.application.service;
 
+import com.nexus.jobboard.application.dto.request.GeoFilterRequest;
 import com.nexus.jobboard.application.dto.request.JobCreateRequest;
 import com.nexus.jobboard.application.dto.request.JobUpdateRequest;
 import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+import com.nexus.jobboard.application.dto.request.SalaryMatchMode;
+import com.nexus.jobboard.application.dto.request.SearchStrategy;
+import com.nexus.jobboard.application.dto.request.SkillMatchMode;
+import com.nexus.jobboard.application.dto.response.CursorPage;
+import com.nexus.jobboard.application.dto.response.FacetedJobsResponse;
+import com.nexus.jobboard.application.dto.response.JobExpiryResult;
+import com.nexus.jobboard.application.dto.response.JobQueryResponse;
 import com.nexus.jobboard.application.dto.response.JobResponse;
+import com.nexus.jobboard.application.dto.response.JobSummaryResponse;
+import com.nexus.jobboard.application.dto.response.SliceResponse;
 import com.nexus.jobboard.domain.model.JobType;
 import com.nexus.jobboard.domain.model.ExperienceLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,11 +52,42 @@ public interface JobService {
      */
     Page<JobResponse> getAllActiveJobs(Pageable pageable);
     
+    /**
+     * Get active jobs newest first using keyset pagination (no total count)
+     */
+    CursorPage<JobResponse> getAllActiveJobs(String cursor, int size);
+    
     /**
      * Get jobs by company
      */
     Page<JobResponse> getJobsByCompany(Long companyId, Pageable pageable);
     
+    /**
+     * Get active jobs as list summaries
+     */
+    Page<JobSummaryResponse> getActiveJobSummaries(Pageable pageable);
+    
+    /**
+     * Get a company's active jobs as list summaries
+     */
+    Page<JobSummaryResponse> getJobSummariesByCompany(Long companyId, Pageable pageable);
+    
+    /**
+     * Search jobs returning list summaries, same strategies and result cache as {@link #searchJobs(String, SearchStrategy, Pageable)}
+     */
+    Page<JobSummaryResponse> searchJobSummaries(String searchTerm, SearchStrategy strategy, Pageable pageable);
+    
+    /**
+     * Filter jobs returning list summaries, the same rows and order as the getJobsByFilters variant
+     * taking salaryMatch and an area filter
+     */
+    Page<JobSummaryResponse> getJobSummariesByFilters(String location, JobType jobType,
+                                                      ExperienceLevel experienceLevel,
+                                                      BigDecimal minSalary, BigDecimal maxSalary,
+                                                      SalaryMatchMode salaryMatch,
+                                                      Boolean isRemote, Long categoryId,
+                                                      GeoFilterRequest geo, Pageable pageable);
+    
     /**
      * Get jobs by category
      */
@@ -61,19 +104,86 @@ public interface JobService {
     Page<JobResponse> searchJobs(String searchTerm, Pageable pageable);
     
     /**
-     * Advanced job filtering
+     * Search jobs using an explicit search strategy (null selects the configured default)
      */
+    Page<JobResponse> searchJobs(String searchTerm, SearchStrategy strategy, Pageable pageable);
+    
+    /**
+     * Search jobs without running a total count query
+     */
+    SliceResponse<JobResponse> searchJobsSlice(String searchTerm, SearchStrategy strategy,
+                                             boolean approximateTotal, Pageable pageable);
+    
+    /**
+     * Advanced job filtering
     Page<JobResponse> getJobsByFilters(String location, JobType jobType, 
                                      ExperienceLevel experienceLevel,
                                      BigDecimal minSalary, BigDecimal maxSalary,
                                      Boolean isRemote, Long categoryId,
                                      Pageable pageable);
     
+    /**
+     * Advanced job filtering with a choice of how the salary range is matched
+     */
+    Page<JobResponse> getJobsByFilters(String location, JobType jobType,
+                                       ExperienceLevel experienceLevel,
+                                       BigDecimal minSalary, BigDecimal maxSalary,
+                                       SalaryMatchMode salaryMatch,
+                                       Boolean isRemote, Long categoryId,
+                                       Pageable pageable);
+    
+    /**
+     * Advanced job filtering restricted to a radius or bounding box, optionally sorted by distance
+     */
+    Page<JobResponse> getJobsByFilters(String location, JobType jobType,
+                                       ExperienceLevel experienceLevel,
+                                       BigDecimal minSalary, BigDecimal maxSalary,
+                                       SalaryMatchMode salaryMatch,
+                                       Boolean isRemote, Long categoryId,
+                                       GeoFilterRequest geo, Pageable pageable);
+    
+    /**
+     * Advanced job filtering with per-facet counts computed in the same call, salaryMatch as for getJobsByFilters
+     */
+    FacetedJobsResponse getJobsByFiltersWithFacets(String location, JobType jobType,
+                                                   ExperienceLevel experienceLevel,
+                                                   BigDecimal minSalary, BigDecimal maxSalary,
+                                                   SalaryMatchMode salaryMatch,
+                                                   Boolean isRemote, Long categoryId,
+                                                   Pageable pageable);
+    
+    /**
+     * Advanced job filtering without running a total count query, salaryMatch as for getJobsByFilters
+     */
+    SliceResponse<JobResponse> getJobsByFiltersSlice(String location, JobType jobType,
+                                                   ExperienceLevel experienceLevel,
+                                                   BigDecimal minSalary, BigDecimal maxSalary,
+                                                   SalaryMatchMode salaryMatch,
+                                                   Boolean isRemote, Long categoryId,
+                                                   boolean approximateTotal, Pageable pageable);
+    
     /**
      * Find jobs by required skills
      */
     Page<JobResponse> getJobsBySkills(List<Long> skillIds, Pageable pageable);
     
+    /**
+     * Find jobs requiring any, all or at least a number of the given skills, most matched first
+     */
+    Page<JobResponse> getJobsBySkills(List<Long> skillIds, SkillMatchMode matchMode,
+                                      Integer minimumMatches, Pageable pageable);
+    
+    /**
+     * Find jobs by required skills without running a total count query
+     */
+    SliceResponse<JobResponse> getJobsBySkillsSlice(List<Long> skillIds, boolean approximateTotal, Pageable pageable);
+    
+    /**
+     * Run free text, skill and filter criteria as one query, optionally explaining the chosen plan
+     */
+    JobQueryResponse queryJobs(JobSearchRequest criteria, SkillMatchMode skillMatch, Integer minimumMatches,
+                               boolean explain, Pageable pageable);
+    
     /**
      * Deactivate job posting
      */
@@ -105,9 +215,16 @@ public interface JobService {
     Long getActiveJobCountByUser(Long userId);
     
     /**
-     * Process expired jobs (background task)
+     * Deactivate one chunk of jobs whose application deadline passed before now (background task),
+     * returns how many were deactivated
+     */
+    int processExpiredJobs(LocalDateTime now, int limit);
+    
+    /**
+     * Deactivate the given jobs that are still active and whose deadline is not after now,
+     * returns how many were deactivated and which of the given jobs were already inactive
      */
-    void processExpiredJobs();
+    JobExpiryResult expireJobs(Collection<Long> jobIds, LocalDateTime now);
     
     /**
      * Get recommended jobs for a user (AI-powered)
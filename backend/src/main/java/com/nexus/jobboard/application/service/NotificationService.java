@@ -1,6 +1,7 @@
 package com.nexus.jobboard.application.service;
 
 import com.nexus.jobboard.application.dto.message.EmailMessage;
+import com.nexus.jobboard.application.dto.message.JobApplicationBatchMessage;
 import com.nexus.jobboard.application.dto.message.JobApplicationMessage;
 
 /**
@@ -30,6 +31,11 @@ public interface NotificationService {
      */
     void sendApplicationStatusUpdate(JobApplicationMessage applicationMessage);
     
+    /**
+     * Publish one chunk of a bulk status change, expanded into per-applicant emails by the consumer
+     */
+    void sendApplicationStatusUpdates(JobApplicationBatchMessage batchMessage);
+    
     /**
      * Send job recommendation notification
      */
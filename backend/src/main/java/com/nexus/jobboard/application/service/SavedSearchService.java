@@ -0,0 +1,24 @@
+package com.nexus.jobboard.application.service;
+
+import com.nexus.jobboard.application.dto.request.SavedSearchRequest;
+import com.nexus.jobboard.application.dto.response.SavedSearchResponse;
+
+import java.util.List;
+
+/**
+ * Saved search service interface following ISP
+ * - Single responsibility: Saved search management and new job alerts
+ */
+public interface SavedSearchService {
+    
+    SavedSearchResponse createSavedSearch(SavedSearchRequest request, Long userId);
+    
+    List<SavedSearchResponse> getSavedSearches(Long userId);
+    
+    /**
+     * Switch alerts for a saved search on or off, the criteria are kept either way
+     */
+    SavedSearchResponse setAlertsEnabled(Long savedSearchId, Long userId, boolean enabled);
+    
+    void deleteSavedSearch(Long savedSearchId, Long userId);
+}
@@ -1,7 +1,9 @@
 package com.nexus.jobboard.application.service;
 
+import com.nexus.jobboard.application.dto.request.SearchStrategy;
 import com.nexus.jobboard.application.dto.request.UserRegistrationRequest;
 import com.nexus.jobboard.application.dto.request.UserUpdateRequest;
+import com.nexus.jobboard.application.dto.response.CursorPage;
 import com.nexus.jobboard.application.dto.response.UserResponse;
 import com.nexus.jobboard.domain.model.UserRole;
 import org.springframework.data.domain.Page;
@@ -41,6 +43,11 @@ public interface UserService {
      */
     Page<UserResponse> getAllUsers(Pageable pageable);
     
+    /**
+     * Get all users newest first using keyset pagination (no total count)
+     */
+    CursorPage<UserResponse> getAllUsers(String cursor, int size);
+    
     /**
      * Get users by role with pagination
      */
@@ -51,6 +58,11 @@ public interface UserService {
      */
     Page<UserResponse> searchUsers(String searchTerm, Pageable pageable);
     
+    /**
+     * Search users using an explicit search strategy (FULL_TEXT searches names only)
+     */
+    Page<UserResponse> searchUsers(String searchTerm, SearchStrategy strategy, Pageable pageable);
+    
     /**
      * Deactivate user account
      */
@@ -6,9 +6,13 @@ import com.nexus.jobboard.application.dto.response.JobResponse;
 import com.nexus.jobboard.application.mapper.JobMapper;
 import com.nexus.jobboard.application.service.AIService;
 import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.model.Skill;
 import com.nexus.jobboard.domain.model.User;
 import com.nexus.jobboard.domain.repository.JobRepository;
+import com.nexus.jobboard.domain.repository.SkillRepository;
 import com.nexus.jobboard.domain.repository.UserRepository;
+import com.nexus.jobboard.infrastructure.search.JobSkillIndex;
+import com.nexus.jobboard.infrastructure.search.SkillMatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
@@ -30,7 +34,7 @@ import java.util.stream.Collectors;
  * OCP: Open for extension with different AI providers
  * LSP: Substitutable for AIService interface
  * ISP: Implements specific AI methods
- * DIP: Depends on abstractions (repositories, mappers)
+ * DIP: Depends on abstractions (repositories, mappers, indexes)
  */
 @Service
 @RequiredArgsConstructor
@@ -39,7 +43,9 @@ public class AIServiceImpl implements AIService {
     
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
+    private final SkillRepository skillRepository;
     private final JobMapper jobMapper;
+    private final JobSkillIndex jobSkillIndex;
     private final Tika tika = new Tika();
     
     // Common skills patterns for extraction
@@ -99,11 +105,7 @@ public class AIServiceImpl implements AIService {
     public List<JobRecommendationResult> getRecommendationsFromResume(ResumeAnalysisResult resumeAnalysis) {
         log.info("Getting recommendations from resume analysis");
         
-        List<Job> allJobs = jobRepository.findAll().stream()
-                .filter(Job::getIsActive)
-                .collect(Collectors.toList());
-        
-        return allJobs.stream()
+        return findResumeCandidates(resumeAnalysis).stream()
                 .map(job -> calculateJobRecommendationFromResume(resumeAnalysis, job))
                 .filter(rec -> rec.getMatchScore() > 0.4)
                 .sorted((a, b) -> Double.compare(b.getMatchScore(), a.getMatchScore()))
@@ -339,6 +341,27 @@ public class AIServiceImpl implements AIService {
                 .build();
     }
     
+    /**
+     * Active jobs worth scoring for a resume
+     * - A job sharing no skill with the resume scores at most 0.4 and is always filtered out,
+     *   so when the skill index is loaded only jobs on the resume skills' posting lists are loaded
+     */
+    private List<Job> findResumeCandidates(ResumeAnalysisResult resumeAnalysis) {
+        if (jobSkillIndex.isReady() && resumeAnalysis.getSkills() != null) {
+            List<Long> skillIds = skillRepository.findByNameInAndIsActiveTrue(resumeAnalysis.getSkills()).stream()
+                    .map(Skill::getId)
+                    .collect(Collectors.toList());
+            List<Long> candidateJobIds = jobSkillIndex.match(skillIds, 1).stream()
+                    .map(SkillMatch::getJobId)
+                    .collect(Collectors.toList());
+            return candidateJobIds.isEmpty() ? Collections.emptyList() : jobRepository.findAllById(candidateJobIds);
+        }
+        
+        return jobRepository.findAll().stream()
+                .filter(Job::getIsActive)
+                .collect(Collectors.toList());
+    }
+    
     private JobRecommendationResult calculateJobRecommendationFromResume(ResumeAnalysisResult resume, Job job) {
         double matchScore = 0.0;
         List<String> matchingSkills = new ArrayList<>();
@@ -0,0 +1,44 @@
+package com.nexus.jobboard.application.service.impl;
+
+import com.nexus.jobboard.application.service.AutocompleteService;
+import com.nexus.jobboard.infrastructure.search.AutocompleteIndex;
+import com.nexus.jobboard.infrastructure.search.AutocompleteSuggestion;
+import com.nexus.jobboard.infrastructure.search.SuggestionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Autocomplete service implementation following SOLID principles
+ * 
+ * SRP: Handles only type-ahead suggestions
+ * OCP: New suggestion sources are added to the index, not here
+ * LSP: Substitutable for AutocompleteService interface
+ * ISP: Depends only on the autocomplete index
+ * DIP: Depends on abstractions (indexes)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteServiceImpl implements AutocompleteService {
+    
+    private final AutocompleteIndex autocompleteIndex;
+    
+    @Override
+    public List<AutocompleteSuggestion> suggest(String prefix, Set<SuggestionType> types, int limit) {
+        if (prefix == null || prefix.isBlank() || !autocompleteIndex.isReady()) {
+            return Collections.emptyList();
+        }
+        
+        Set<SuggestionType> requestedTypes = types == null || types.isEmpty()
+                ? EnumSet.allOf(SuggestionType.class)
+                : types;
+        int boundedLimit = Math.max(1, Math.min(limit, autocompleteIndex.getMaxSuggestions()));
+        return autocompleteIndex.suggest(prefix, requestedTypes, boundedLimit);
+    }
+}
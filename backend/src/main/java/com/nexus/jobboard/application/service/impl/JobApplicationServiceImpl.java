@@ -3,11 +3,14 @@ package com.nexus.jobboard.application.service.impl;
 import com.nexus.jobboard.application.dto.message.JobApplicationMessage;
 import com.nexus.jobboard.application.dto.request.JobApplicationRequest;
 import com.nexus.jobboard.application.dto.request.ApplicationStatusUpdateRequest;
+import com.nexus.jobboard.application.dto.request.KeysetCursor;
+import com.nexus.jobboard.application.dto.response.CursorPage;
 import com.nexus.jobboard.application.dto.response.JobApplicationResponse;
 import com.nexus.jobboard.application.mapper.JobApplicationMapper;
 import com.nexus.jobboard.application.service.JobApplicationService;
 import com.nexus.jobboard.application.service.FileStorageService;
 import com.nexus.jobboard.application.service.NotificationService;
+import com.nexus.jobboard.domain.model.ApplicationCounts;
 import com.nexus.jobboard.domain.model.JobApplication;
 import com.nexus.jobboard.domain.model.Job;
 import com.nexus.jobboard.domain.model.User;
@@ -16,16 +19,24 @@ import com.nexus.jobboard.domain.repository.JobApplicationRepository;
 import com.nexus.jobboard.domain.repository.JobRepository;
 import com.nexus.jobboard.domain.repository.UserRepository;
 import com.nexus.jobboard.infrastructure.exception.ResourceNotFoundException;
+import com.nexus.jobboard.infrastructure.messaging.ApplicationStatusBulkChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Job application service implementation following SOLID principles
@@ -42,12 +53,21 @@ import java.util.Optional;
 @Transactional
 public class JobApplicationServiceImpl implements JobApplicationService {
     
+    // IDs per set-based UPDATE of a bulk status change, keeps the IN list well under driver limits
+    private static final int BULK_UPDATE_CHUNK_SIZE = 1000;
+    
+    private static final List<String> FINAL_STATUSES = Arrays.stream(ApplicationStatus.values())
+            .filter(ApplicationStatus::isFinalStatus)
+            .map(ApplicationStatus::name)
+            .collect(Collectors.toList());
+    
     private final JobApplicationRepository jobApplicationRepository;
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final NotificationService notificationService;
     private final JobApplicationMapper jobApplicationMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public JobApplicationResponse applyForJob(JobApplicationRequest request, Long applicantId, MultipartFile resume) {
@@ -83,6 +103,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                 .build();
         
         JobApplication savedApplication = jobApplicationRepository.save(application);
+        recordStatusChange(savedApplication, null);
         
         // Send notifications
         sendApplicationNotifications(savedApplication, JobApplicationMessage.JobApplicationEventType.APPLICATION_SUBMITTED);
@@ -97,7 +118,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                                                         Long reviewerId) {
         log.info("Updating application status: {} to {}", applicationId, request.getStatus());
         
-        JobApplication application = findApplicationById(applicationId);
+        JobApplication application = findApplicationByIdForUpdate(applicationId);
         User reviewer = userRepository.findById(reviewerId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", reviewerId));
         
@@ -112,6 +133,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         application.setNotes(request.getNotes());
         
         JobApplication updatedApplication = jobApplicationRepository.save(application);
+        recordStatusChange(updatedApplication, previousStatus);
         
         // Send status update notifications
         sendStatusUpdateNotifications(updatedApplication, previousStatus);
@@ -134,6 +156,24 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                 .map(jobApplicationMapper::toResponse);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationResponse> getApplicationsByJob(Long jobId, ApplicationStatus status,
+                                                                 String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decodeOrStart(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        
+        List<JobApplication> rows = status == null
+                ? jobApplicationRepository.findByJobIdBefore(jobId, position.getTimestamp(), position.getId(), limit)
+                : jobApplicationRepository.findByJobIdAndStatusBefore(
+                        jobId, status, position.getTimestamp(), position.getId(), limit);
+        
+        return CursorPage.of(rows, pageSize,
+                application -> new KeysetCursor(application.getAppliedAt(), application.getId()),
+                jobApplicationMapper::toResponse);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Page<JobApplicationResponse> getApplicationsByApplicant(Long applicantId, Pageable pageable) {
@@ -159,7 +199,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     public void withdrawApplication(Long applicationId, Long applicantId) {
         log.info("Withdrawing application: {} by user: {}", applicationId, applicantId);
         
-        JobApplication application = findApplicationById(applicationId);
+        JobApplication application = findApplicationByIdForUpdate(applicationId);
         
         // Verify ownership
         if (!application.isOwnedBy(userRepository.findById(applicantId).orElse(null))) {
@@ -171,8 +211,10 @@ public class JobApplicationServiceImpl implements JobApplicationService {
             throw new IllegalStateException("Cannot withdraw application in final status");
         }
         
+        ApplicationStatus previousStatus = application.getStatus();
         application.withdraw();
         jobApplicationRepository.save(application);
+        recordStatusChange(application, previousStatus);
         
         // Send withdrawal notifications
         sendApplicationNotifications(application, JobApplicationMessage.JobApplicationEventType.APPLICATION_WITHDRAWN);
@@ -189,7 +231,19 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     @Override
     @Transactional(readOnly = true)
     public Long getApplicationCountByJob(Long jobId) {
-        return jobApplicationRepository.countApplicationsByJob(jobId);
+        return jobRepository.findById(jobId)
+                .map(job -> (long) job.getApplicationCount())
+                .orElse(0L);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ApplicationStatus, Integer> getApplicationCountsByStatus(Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+        return job.getApplicationCounts() != null
+                ? job.getApplicationCounts().byStatus()
+                : new ApplicationCounts().byStatus();
     }
     
     @Override
@@ -202,25 +256,89 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     public void bulkUpdateApplicationStatus(Long jobId, ApplicationStatus status, String notes) {
         log.info("Bulk updating applications for job: {} to status: {}", jobId, status);
         
-        Page<JobApplication> applications = jobApplicationRepository.findByJobId(jobId, Pageable.unpaged());
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
         
-        applications.getContent().forEach(application -> {
-            if (!application.isFinalStatus()) {
-                application.setStatus(status);
-                application.setNotes(notes);
-                application.setReviewedAt(LocalDateTime.now());
-                jobApplicationRepository.save(application);
-                
-                // Send individual notifications
-                sendStatusUpdateNotifications(application, application.getStatus());
-            }
-        });
+        // Locked so no open application changes status between reading it and the update below
+        List<ApplicationStatusBulkChangedEvent.Change> changes =
+                jobApplicationRepository.lockOpenApplicationsByJobId(jobId, FINAL_STATUSES).stream()
+                        .map(row -> new ApplicationStatusBulkChangedEvent.Change(
+                                ((Number) row[0]).longValue(),
+                                ((Number) row[2]).longValue(),
+                                ApplicationStatus.valueOf((String) row[1])))
+                        .collect(Collectors.toList());
+        if (changes.isEmpty()) {
+            log.info("Bulk update found no open applications for job: {}", jobId);
+            return;
+        }
         
-        log.info("Bulk update completed for job: {}", jobId);
+        LocalDateTime reviewedAt = LocalDateTime.now();
+        List<Long> applicationIds = changes.stream()
+                .map(ApplicationStatusBulkChangedEvent.Change::getApplicationId)
+                .collect(Collectors.toList());
+        int updated = 0;
+        for (int from = 0; from < applicationIds.size(); from += BULK_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = applicationIds.subList(from, Math.min(from + BULK_UPDATE_CHUNK_SIZE, applicationIds.size()));
+            updated += jobApplicationRepository.updateStatusByIdIn(chunk, status, notes, reviewedAt);
+        }
+        recordBulkStatusChange(jobId, changes, status);
+        
+        // Notifications are fanned out in batches once the update has committed
+        eventPublisher.publishEvent(new ApplicationStatusBulkChangedEvent(
+                jobId,
+                job.getPostedBy().getId(),
+                job.getTitle(),
+                job.getCompany().getName(),
+                status,
+                notes,
+                determineEventType(status),
+                reviewedAt,
+                changes));
+        
+        log.info("Bulk update completed for job: {}, {} applications updated", jobId, updated);
     }
     
-    private JobApplication findApplicationById(Long applicationId) {
-        return jobApplicationRepository.findById(applicationId)
+    /**
+     * Moves the job's denormalised counters with the application, previousStatus is null for a new application
+     */
+    private void recordStatusChange(JobApplication application, ApplicationStatus previousStatus) {
+        Long jobId = application.getJob().getId();
+        ApplicationStatus status = application.getStatus();
+        if (previousStatus == null) {
+            jobRepository.adjustApplicationCounts(jobId, status.name(), 1, 1);
+        } else if (previousStatus != status) {
+            jobRepository.adjustApplicationCounts(jobId, previousStatus.name(), -1, 0);
+            jobRepository.adjustApplicationCounts(jobId, status.name(), 1, 0);
+        }
+    }
+    
+    /**
+     * Moves the job's counters for a bulk change with one adjustment per previous status
+     */
+    private void recordBulkStatusChange(Long jobId, List<ApplicationStatusBulkChangedEvent.Change> changes,
+                                        ApplicationStatus status) {
+        Map<ApplicationStatus, Integer> previousCounts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatusBulkChangedEvent.Change change : changes) {
+            previousCounts.merge(change.getPreviousStatus(), 1, Integer::sum);
+        }
+        
+        int moved = 0;
+        for (Map.Entry<ApplicationStatus, Integer> previous : previousCounts.entrySet()) {
+            if (previous.getKey() != status) {
+                jobRepository.adjustApplicationCounts(jobId, previous.getKey().name(), -previous.getValue(), 0);
+                moved += previous.getValue();
+            }
+        }
+        if (moved > 0) {
+            jobRepository.adjustApplicationCounts(jobId, status.name(), moved, 0);
+        }
+    }
+    
+    /**
+     * Locked until commit, a concurrent withdrawal, review or bulk update waits instead of reading the same status
+     */
+    private JobApplication findApplicationByIdForUpdate(Long applicationId) {
+        return jobApplicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("JobApplication", applicationId));
     }
     
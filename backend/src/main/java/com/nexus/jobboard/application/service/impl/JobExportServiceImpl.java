@@ -0,0 +1,134 @@
+package com.nexus.jobboard.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.jobboard.application.dto.request.ExportFormat;
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+import com.nexus.jobboard.application.dto.response.JobExportRow;
+import com.nexus.jobboard.application.mapper.JobMapper;
+import com.nexus.jobboard.application.service.JobExportService;
+import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.repository.JobRepository;
+import com.nexus.jobboard.infrastructure.search.SearchTokenizer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Job export service implementation following SOLID principles
+ * 
+ * SRP: Handles only streaming job exports
+ * OCP: Open for extension through interface implementation
+ * LSP: Substitutable for JobExportService interface
+ * ISP: Depends only on specific interfaces it needs
+ * DIP: Depends on abstractions (repository, mapper)
+ * 
+ * Rows come from a server-side cursor and the persistence context is cleared after every fetch batch,
+ * so memory stays constant whatever the size of the catalogue.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobExportServiceImpl implements JobExportService {
+    
+    private static final int BATCH_SIZE = Integer.parseInt(JobRepository.EXPORT_FETCH_SIZE);
+    
+    private static final String CSV_HEADER = "id,title,companyName,categoryName,location,jobType,experienceLevel," +
+            "salaryMin,salaryMax,salaryType,isRemote,applicationDeadline,createdAt";
+    
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long exportJobs(JobSearchRequest criteria, ExportFormat format, OutputStream output) throws IOException {
+        if (!criteria.isValidSalaryRange()) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        
+        List<Long> skillIds = criteria.getSkillIds() != null
+                ? criteria.getSkillIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList())
+                : List.of();
+        List<String> searchTerms = SearchTokenizer.tokenize(criteria.getSearchTerm()).stream()
+                .distinct()
+                .collect(Collectors.toList());
+        if (searchTerms.size() > JobRepository.MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("searchTerm supports at most " + JobRepository.MAX_QUERY_TERMS + " terms");
+        }
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        long rows = 0;
+        try (Stream<Job> jobs = jobRepository.streamByQuery(
+                searchTerms, blankToNull(criteria.getLocation()),
+                criteria.getJobType(), criteria.getExperienceLevel(),
+                criteria.getMinSalary(), criteria.getMaxSalary(), criteria.getIsRemote(),
+                criteria.getCategoryId(), blankToNull(criteria.getCompanyName()),
+                skillIds, skillIds.isEmpty() ? 0 : 1)) {
+            Iterator<Job> iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                writeRow(writer, format, jobMapper.toExportRow(iterator.next()));
+                if (++rows % BATCH_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+        
+        log.debug("Exported {} jobs as {}", rows, format);
+        return rows;
+    }
+    
+    private void writeRow(Writer writer, ExportFormat format, JobExportRow row) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",",
+                    csv(row.getId()), csv(row.getTitle()), csv(row.getCompanyName()), csv(row.getCategoryName()),
+                    csv(row.getLocation()), csv(row.getJobType()), csv(row.getExperienceLevel()),
+                    csv(row.getSalaryMin() != null ? row.getSalaryMin().toPlainString() : null),
+                    csv(row.getSalaryMax() != null ? row.getSalaryMax().toPlainString() : null),
+                    csv(row.getSalaryType()), csv(row.getIsRemote()),
+                    csv(row.getApplicationDeadline()), csv(row.getCreatedAt())));
+        } else {
+            writer.write(objectMapper.writeValueAsString(row));
+        }
+        writer.write('\n');
+    }
+    
+    /**
+     * RFC 4180 field: quoted when it contains a delimiter, quote or line break, quotes doubled
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+}
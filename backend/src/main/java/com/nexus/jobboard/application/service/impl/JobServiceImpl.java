@@ -0,0 +1,1195 @@
+package com.nexus.jobboard.application.service.impl;
+
+import com.nexus.jobboard.application.dto.request.GeoFilterRequest;
+import com.nexus.jobboard.application.dto.request.JobCreateRequest;
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+import com.nexus.jobboard.application.dto.request.JobUpdateRequest;
+import com.nexus.jobboard.application.dto.request.KeysetCursor;
+import com.nexus.jobboard.application.dto.request.SalaryMatchMode;
+import com.nexus.jobboard.application.dto.request.SearchStrategy;
+import com.nexus.jobboard.application.dto.request.SkillMatchMode;
+import com.nexus.jobboard.application.dto.response.CursorPage;
+import com.nexus.jobboard.application.dto.response.FacetedJobsResponse;
+import com.nexus.jobboard.application.dto.response.JobExpiryResult;
+import com.nexus.jobboard.application.dto.response.JobQueryResponse;
+import com.nexus.jobboard.application.dto.response.JobResponse;
+import com.nexus.jobboard.application.dto.response.JobSummaryResponse;
+import com.nexus.jobboard.application.dto.response.SliceResponse;
+import com.nexus.jobboard.application.mapper.JobMapper;
+import com.nexus.jobboard.application.service.AIService;
+import com.nexus.jobboard.application.service.JobService;
+import com.nexus.jobboard.domain.model.Company;
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.model.JobCategory;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.User;
+import com.nexus.jobboard.domain.model.UserRole;
+import com.nexus.jobboard.domain.repository.CompanyRepository;
+import com.nexus.jobboard.domain.repository.JobCategoryRepository;
+import com.nexus.jobboard.domain.repository.JobRepository;
+import com.nexus.jobboard.domain.repository.JobSummary;
+import com.nexus.jobboard.domain.repository.SkillRepository;
+import com.nexus.jobboard.domain.repository.UserRepository;
+import com.nexus.jobboard.infrastructure.datasource.PrimaryReadTemplate;
+import com.nexus.jobboard.infrastructure.exception.ResourceNotFoundException;
+import com.nexus.jobboard.infrastructure.geo.BoundingBox;
+import com.nexus.jobboard.infrastructure.geo.Gazetteer;
+import com.nexus.jobboard.infrastructure.geo.GeoPoint;
+import com.nexus.jobboard.infrastructure.search.CachedJobPage;
+import com.nexus.jobboard.infrastructure.search.CachedSearchCriteria;
+import com.nexus.jobboard.infrastructure.search.GeoMatch;
+import com.nexus.jobboard.infrastructure.search.JobChangedEvent;
+import com.nexus.jobboard.infrastructure.search.JobDocument;
+import com.nexus.jobboard.infrastructure.search.JobFacetIndex;
+import com.nexus.jobboard.infrastructure.search.JobFacets;
+import com.nexus.jobboard.infrastructure.search.JobFilter;
+import com.nexus.jobboard.infrastructure.search.JobGeoIndex;
+import com.nexus.jobboard.infrastructure.search.JobIdBitmap;
+import com.nexus.jobboard.infrastructure.search.JobQuery;
+import com.nexus.jobboard.infrastructure.search.JobQueryPlanner;
+import com.nexus.jobboard.infrastructure.search.JobQueryResult;
+import com.nexus.jobboard.infrastructure.search.JobSalaryIndex;
+import com.nexus.jobboard.infrastructure.search.JobSkillIndex;
+import com.nexus.jobboard.infrastructure.search.JobTextIndex;
+import com.nexus.jobboard.infrastructure.search.QueryPlan;
+import com.nexus.jobboard.infrastructure.search.SearchResultCache;
+import com.nexus.jobboard.infrastructure.search.SearchTokenizer;
+import com.nexus.jobboard.infrastructure.search.SkillMatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Job service implementation following SOLID principles
+ * 
+ * SRP: Handles only job-related business logic
+ * OCP: Open for extension through interface implementation
+ * LSP: Substitutable for JobService interface
+ * ISP: Depends only on specific interfaces it needs
+ * DIP: Depends on abstractions (repositories, mappers, indexes)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class JobServiceImpl implements JobService {
+    
+    /**
+     * Creation order of geo matches, pooled sequence IDs are not in creation order
+     */
+    private static final Comparator<GeoMatch> GEO_NEWEST_FIRST = Comparator
+            .comparing(GeoMatch::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(GeoMatch::getJobId, Comparator.reverseOrder());
+    
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final JobCategoryRepository jobCategoryRepository;
+    private final SkillRepository skillRepository;
+    private final UserRepository userRepository;
+    private final JobMapper jobMapper;
+    private final AIService aiService;
+    private final JobTextIndex jobTextIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobSkillIndex jobSkillIndex;
+    private final JobSalaryIndex jobSalaryIndex;
+    private final JobGeoIndex jobGeoIndex;
+    private final JobQueryPlanner jobQueryPlanner;
+    private final Gazetteer gazetteer;
+    private final SearchResultCache searchResultCache;
+    private final PrimaryReadTemplate primaryReadTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${search.default-strategy:INDEX}")
+    private SearchStrategy defaultSearchStrategy;
+    
+    @Override
+    public JobResponse createJob(JobCreateRequest request, Long employerId) {
+        log.info("Creating job '{}' for employer: {}", request.getTitle(), employerId);
+        
+        User employer = findUserById(employerId);
+        Company company = companyRepository.findById(request.getCompanyId())
+                .orElseThrow(() -> new ResourceNotFoundException("Company", request.getCompanyId()));
+        
+        Job job = Job.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .requirements(request.getRequirements())
+                .company(company)
+                .category(findCategory(request.getCategoryId()))
+                .jobType(request.getJobType())
+                .experienceLevel(request.getExperienceLevel())
+                .location(request.getLocation())
+                .salaryMin(request.getSalaryMin())
+                .salaryMax(request.getSalaryMax())
+                .salaryType(request.getSalaryType())
+                .isRemote(Boolean.TRUE.equals(request.getIsRemote()))
+                .applicationDeadline(request.getApplicationDeadline())
+                .postedBy(employer)
+                .build();
+        
+        if (request.getRequiredSkillIds() != null) {
+            skillRepository.findAllById(request.getRequiredSkillIds()).forEach(job::addSkill);
+        }
+        
+        applyCoordinates(job);
+        Job savedJob = jobRepository.save(job);
+        adjustSkillJobCounts(null, JobDocument.from(savedJob));
+        publishJobChanged(savedJob, JobChangedEvent.ChangeType.CREATED);
+        
+        log.info("Job created successfully with ID: {}", savedJob.getId());
+        return jobMapper.toResponse(savedJob);
+    }
+    
+    @Override
+    public JobResponse updateJob(Long jobId, JobUpdateRequest request, Long employerId) {
+        log.info("Updating job: {} by employer: {}", jobId, employerId);
+        
+        // Locked, the snapshot and the save both see a concurrent expiry or deactivation
+        Job job = jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+        verifyCanManage(job, employerId);
+        JobDocument previous = JobDocument.from(job);
+        
+        if (request.getTitle() != null) {
+            job.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            job.setDescription(request.getDescription());
+        }
+        if (request.getRequirements() != null) {
+            job.setRequirements(request.getRequirements());
+        }
+        if (request.getCategoryId() != null) {
+            job.setCategory(findCategory(request.getCategoryId()));
+        }
+        if (request.getJobType() != null) {
+            job.setJobType(request.getJobType());
+        }
+        if (request.getExperienceLevel() != null) {
+            job.setExperienceLevel(request.getExperienceLevel());
+        }
+        if (request.getLocation() != null) {
+            job.setLocation(request.getLocation());
+        }
+        if (request.getSalaryMin() != null) {
+            job.setSalaryMin(request.getSalaryMin());
+        }
+        if (request.getSalaryMax() != null) {
+            job.setSalaryMax(request.getSalaryMax());
+        }
+        if (request.getSalaryType() != null) {
+            job.setSalaryType(request.getSalaryType());
+        }
+        if (request.getIsRemote() != null) {
+            job.setIsRemote(request.getIsRemote());
+        }
+        if (request.getApplicationDeadline() != null) {
+            job.setApplicationDeadline(request.getApplicationDeadline());
+        }
+        if (request.getRequiredSkillIds() != null) {
+            job.setRequiredSkills(new ArrayList<>(skillRepository.findAllById(request.getRequiredSkillIds())));
+        }
+        
+        applyCoordinates(job);
+        Job updatedJob = jobRepository.save(job);
+        JobDocument current = JobDocument.from(updatedJob);
+        adjustSkillJobCounts(previous, current);
+        eventPublisher.publishEvent(new JobChangedEvent(current, JobChangedEvent.ChangeType.UPDATED, previous));
+        
+        log.info("Job updated successfully: {}", jobId);
+        return jobMapper.toResponse(updatedJob);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<JobResponse> getJobById(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(jobMapper::toResponse);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getAllActiveJobs(Pageable pageable) {
+        return toResponsePage(jobRepository.findByIsActiveTrue(pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getAllActiveJobs(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decodeOrStart(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        
+        List<Job> rows = jobRepository.findActiveJobsBefore(
+                position.getTimestamp(), position.getId(), PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(rows, pageSize,
+                job -> new KeysetCursor(job.getCreatedAt(), job.getId()),
+                Function.<Job>identity())
+                .mapContent(this::toResponses);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsByCompany(Long companyId, Pageable pageable) {
+        return toResponsePage(jobRepository.findByCompanyIdAndIsActive(companyId, true, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobSummaryResponse> getActiveJobSummaries(Pageable pageable) {
+        return jobRepository.findActiveJobSummaries(pageable)
+                .map(jobMapper::toSummaryResponse);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobSummaryResponse> getJobSummariesByCompany(Long companyId, Pageable pageable) {
+        return jobRepository.findActiveJobSummariesByCompanyId(companyId, pageable)
+                .map(jobMapper::toSummaryResponse);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobSummaryResponse> searchJobSummaries(String searchTerm, SearchStrategy strategy, Pageable pageable) {
+        SearchStrategy effectiveStrategy = strategy != null ? strategy : defaultSearchStrategy;
+        log.debug("Searching job summaries for '{}' using {} strategy", searchTerm, effectiveStrategy);
+        
+        // Same plans and cache entries as searchJobs, only the projection of the resulting IDs differs
+        switch (effectiveStrategy) {
+            case FULL_TEXT:
+                Pageable unsorted = withoutSort(pageable);
+                return cachedSummaryQuery(searchCriteria(searchTerm), CachedSearchCriteria.Mode.FULL_TEXT, unsorted,
+                        () -> jobRepository.findByFullTextSearch(searchTerm, unsorted));
+            case FUZZY:
+                if (jobTextIndex.isReady()) {
+                    return loadSummaryPage(jobTextIndex.searchFuzzy(searchTerm), pageable);
+                }
+                Pageable bySimilarity = withoutSort(pageable);
+                Page<Job> similar = jobRepository.findByTrigramSimilarity(searchTerm, bySimilarity);
+                return loadSummaryPage(similar.map(Job::getId).getContent(), bySimilarity, similar.getTotalElements());
+            case INDEX:
+                if (jobTextIndex.isReady()) {
+                    return loadSummaryPage(jobTextIndex.search(searchTerm), pageable);
+                }
+                log.debug("Job text index not ready, falling back to database search");
+                return cachedSummaryQuery(searchCriteria(searchTerm), CachedSearchCriteria.Mode.SEARCH_TERM, pageable,
+                        () -> jobRepository.findBySearchTerm(searchTerm, pageable));
+            default:
+                return cachedSummaryQuery(searchCriteria(searchTerm), CachedSearchCriteria.Mode.SEARCH_TERM, pageable,
+                        () -> jobRepository.findBySearchTerm(searchTerm, pageable));
+        }
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobSummaryResponse> getJobSummariesByFilters(String location, JobType jobType,
+                                                             ExperienceLevel experienceLevel,
+                                                             BigDecimal minSalary, BigDecimal maxSalary,
+                                                             SalaryMatchMode salaryMatch,
+                                                             Boolean isRemote, Long categoryId,
+                                                             GeoFilterRequest geo, Pageable pageable) {
+        boolean overlappingSalary = salaryMatch == SalaryMatchMode.OVERLAPS && (minSalary != null || maxSalary != null);
+        if (geo != null && !geo.isEmpty()) {
+            // Area filters have no summary query, the summaries are projected from the full page's IDs
+            Page<JobResponse> jobs = getJobsByFilters(location, jobType, experienceLevel, minSalary, maxSalary,
+                    salaryMatch, isRemote, categoryId, geo, pageable);
+            return loadSummaryPage(jobs.map(JobResponse::getId).getContent(), pageable, jobs.getTotalElements());
+        }
+        if (overlappingSalary) {
+            Optional<JobIdBitmap> indexedMatches = findIndexedOverlapMatches(
+                    toFilter(location, jobType, experienceLevel, null, null, isRemote, categoryId),
+                    minSalary, maxSalary, pageable);
+            if (indexedMatches.isPresent()) {
+                return loadSummaryPage(newestFirstPageIds(indexedMatches.get(), pageable), pageable,
+                        indexedMatches.get().cardinality());
+            }
+            Page<JobResponse> jobs = getJobsByFilters(location, jobType, experienceLevel, minSalary, maxSalary,
+                    salaryMatch, isRemote, categoryId, pageable);
+            return loadSummaryPage(jobs.map(JobResponse::getId).getContent(), pageable, jobs.getTotalElements());
+        }
+        
+        JobFilter filter = toFilter(location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId);
+        Optional<JobIdBitmap> indexedMatches = findIndexedMatches(filter, pageable);
+        if (indexedMatches.isPresent()) {
+            return loadSummaryPage(newestFirstPageIds(indexedMatches.get(), pageable), pageable,
+                    indexedMatches.get().cardinality());
+        }
+        return jobRepository.findSummariesByFilters(location, jobType, experienceLevel,
+                        minSalary, maxSalary, isRemote, categoryId, pageable)
+                .map(jobMapper::toSummaryResponse);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsByCategory(Long categoryId, Pageable pageable) {
+        return toResponsePage(jobRepository.findByCategoryId(categoryId, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsByUser(Long userId, Pageable pageable) {
+        return toResponsePage(jobRepository.findByPostedById(userId, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> searchJobs(String searchTerm, Pageable pageable) {
+        return searchJobs(searchTerm, null, pageable);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> searchJobs(String searchTerm, SearchStrategy strategy, Pageable pageable) {
+        SearchStrategy effectiveStrategy = strategy != null ? strategy : defaultSearchStrategy;
+        log.debug("Searching jobs for '{}' using {} strategy", searchTerm, effectiveStrategy);
+        
+        switch (effectiveStrategy) {
+            case FULL_TEXT:
+                // Results are ranked by ts_rank, so any client sort is dropped
+                Pageable unsorted = withoutSort(pageable);
+                return cachedQuery(searchCriteria(searchTerm), CachedSearchCriteria.Mode.FULL_TEXT, unsorted,
+                        () -> jobRepository.findByFullTextSearch(searchTerm, unsorted));
+            case FUZZY:
+                if (jobTextIndex.isReady()) {
+                    return loadPage(jobTextIndex.searchFuzzy(searchTerm), pageable);
+                }
+                // Ranked by trigram similarity, so any client sort is dropped
+                return toResponsePage(jobRepository.findByTrigramSimilarity(searchTerm, withoutSort(pageable)));
+            case INDEX:
+                if (jobTextIndex.isReady()) {
+                    return loadPage(jobTextIndex.search(searchTerm), pageable);
+                }
+                log.debug("Job text index not ready, falling back to database search");
+                return cachedQuery(searchCriteria(searchTerm), CachedSearchCriteria.Mode.SEARCH_TERM, pageable,
+                        () -> jobRepository.findBySearchTerm(searchTerm, pageable));
+            default:
+                return cachedQuery(searchCriteria(searchTerm), CachedSearchCriteria.Mode.SEARCH_TERM, pageable,
+                        () -> jobRepository.findBySearchTerm(searchTerm, pageable));
+        }
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<JobResponse> searchJobsSlice(String searchTerm, SearchStrategy strategy,
+                                                    boolean approximateTotal, Pageable pageable) {
+        SearchStrategy effectiveStrategy = strategy != null ? strategy : defaultSearchStrategy;
+        
+        boolean indexed = effectiveStrategy == SearchStrategy.INDEX || effectiveStrategy == SearchStrategy.FUZZY;
+        if (indexed && jobTextIndex.isReady()) {
+            // The index already knows the exact hit count, so the total costs nothing here
+            List<Long> matchingJobIds = effectiveStrategy == SearchStrategy.FUZZY
+                    ? jobTextIndex.searchFuzzy(searchTerm)
+                    : jobTextIndex.search(searchTerm);
+            return SliceResponse.of(loadPage(matchingJobIds, pageable),
+                    approximateTotal ? (long) matchingJobIds.size() : null);
+        }
+        
+        Slice<Job> jobs;
+        switch (effectiveStrategy) {
+            case FULL_TEXT:
+                jobs = jobRepository.findSliceByFullTextSearch(searchTerm, withoutSort(pageable));
+                break;
+            case FUZZY:
+                jobs = jobRepository.findSliceByTrigramSimilarity(searchTerm, withoutSort(pageable));
+                break;
+            default:
+                jobs = jobRepository.findSliceBySearchTerm(searchTerm, pageable);
+        }
+        return SliceResponse.of(toResponseSlice(jobs),
+                approximateTotal ? approximateActiveJobCount() : null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsByFilters(String location, JobType jobType,
+                                            ExperienceLevel experienceLevel,
+                                            BigDecimal minSalary, BigDecimal maxSalary,
+                                            Boolean isRemote, Long categoryId,
+                                            Pageable pageable) {
+        JobFilter filter = toFilter(location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId);
+        Optional<JobIdBitmap> indexedMatches = findIndexedMatches(filter, pageable);
+        if (indexedMatches.isPresent()) {
+            return loadNewestFirstPage(indexedMatches.get(), pageable);
+        }
+        
+        return cachedQuery(
+                filterCriteria(location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId),
+                CachedSearchCriteria.Mode.FILTER_WITHIN, pageable,
+                () -> jobRepository.findByFilters(location, jobType, experienceLevel,
+                        minSalary, maxSalary, isRemote, categoryId, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsByFilters(String location, JobType jobType,
+                                            ExperienceLevel experienceLevel,
+                                            BigDecimal minSalary, BigDecimal maxSalary,
+                                            SalaryMatchMode salaryMatch,
+                                            Boolean isRemote, Long categoryId,
+                                            Pageable pageable) {
+        if (salaryMatch != SalaryMatchMode.OVERLAPS || (minSalary == null && maxSalary == null)) {
+            return getJobsByFilters(location, jobType, experienceLevel, minSalary, maxSalary,
+                    isRemote, categoryId, pageable);
+        }
+        
+        Optional<JobIdBitmap> indexedMatches = findIndexedOverlapMatches(
+                toFilter(location, jobType, experienceLevel, null, null, isRemote, categoryId),
+                minSalary, maxSalary, pageable);
+        if (indexedMatches.isPresent()) {
+            return loadNewestFirstPage(indexedMatches.get(), pageable);
+        }
+        
+        return cachedQuery(
+                filterCriteria(location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId),
+                CachedSearchCriteria.Mode.FILTER_OVERLAPS, pageable,
+                () -> jobRepository.findByFiltersWithOverlappingSalary(location, jobType, experienceLevel,
+                        minSalary, maxSalary, isRemote, categoryId, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsByFilters(String location, JobType jobType,
+                                            ExperienceLevel experienceLevel,
+                                            BigDecimal minSalary, BigDecimal maxSalary,
+                                            SalaryMatchMode salaryMatch,
+                                            Boolean isRemote, Long categoryId,
+                                            GeoFilterRequest geo, Pageable pageable) {
+        if (geo == null || geo.isEmpty()) {
+            return getJobsByFilters(location, jobType, experienceLevel, minSalary, maxSalary,
+                    salaryMatch, isRemote, categoryId, pageable);
+        }
+        
+        GeoPoint center = resolveCenter(geo);
+        Double radiusKm = geo.getRadiusKm();
+        if (radiusKm != null && (center == null || radiusKm <= 0)) {
+            throw new IllegalArgumentException("radiusKm must be positive and needs near or latitude/longitude");
+        }
+        BoundingBox box = geo.hasBoundingBox()
+                ? new BoundingBox(geo.getMinLatitude(), geo.getMinLongitude(), geo.getMaxLatitude(), geo.getMaxLongitude())
+                : radiusKm != null ? BoundingBox.around(center, radiusKm) : new BoundingBox(-90.0, -180.0, 90.0, 180.0);
+        GeoPoint origin = center != null ? center : box.center();
+        boolean byDistance = geo.isSortByDistance();
+        boolean overlappingSalary = salaryMatch == SalaryMatchMode.OVERLAPS;
+        
+        Page<JobResponse> jobs = null;
+        if (byDistance || pageable.getSort().isUnsorted()) {
+            JobFilter attributeFilter = toFilter(location, jobType, experienceLevel,
+                    overlappingSalary ? null : minSalary, overlappingSalary ? null : maxSalary, isRemote, categoryId);
+            Optional<List<GeoMatch>> matches = findIndexedGeoMatches(attributeFilter,
+                    overlappingSalary ? minSalary : null, overlappingSalary ? maxSalary : null, box, origin, radiusKm);
+            if (matches.isPresent()) {
+                Comparator<GeoMatch> order = byDistance
+                        ? Comparator.comparing(GeoMatch::getDistanceKm).thenComparing(GEO_NEWEST_FIRST)
+                        : GEO_NEWEST_FIRST;
+                jobs = loadPage(matches.get().stream()
+                        .sorted(order)
+                        .map(GeoMatch::getJobId)
+                        .collect(Collectors.toList()), pageable);
+            }
+        }
+        
+        if (jobs == null) {
+            Page<Job> found = byDistance
+                    ? jobRepository.findByFiltersInAreaOrderByDistance(location, jobType, experienceLevel,
+                            minSalary, maxSalary, overlappingSalary, isRemote, categoryId,
+                            box.getMinLatitude(), box.getMinLongitude(), box.getMaxLatitude(), box.getMaxLongitude(),
+                            origin.getLatitude(), origin.getLongitude(), radiusKm, withoutSort(pageable))
+                    : jobRepository.findByFiltersInArea(location, jobType, experienceLevel,
+                            minSalary, maxSalary, overlappingSalary, isRemote, categoryId,
+                            box.getMinLatitude(), box.getMinLongitude(), box.getMaxLatitude(), box.getMaxLongitude(),
+                            origin.getLatitude(), origin.getLongitude(), radiusKm, pageable);
+            jobs = toResponsePage(found);
+        }
+        
+        jobs.forEach(job -> {
+            if (job.getLatitude() != null && job.getLongitude() != null) {
+                job.setDistanceKm(origin.distanceKm(new GeoPoint(job.getLatitude(), job.getLongitude())));
+            }
+        });
+        return jobs;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedJobsResponse getJobsByFiltersWithFacets(String location, JobType jobType,
+                                                          ExperienceLevel experienceLevel,
+                                                          BigDecimal minSalary, BigDecimal maxSalary,
+                                                          SalaryMatchMode salaryMatch,
+                                                          Boolean isRemote, Long categoryId,
+                                                          Pageable pageable) {
+        Page<JobResponse> jobs = getJobsByFilters(location, jobType, experienceLevel,
+                minSalary, maxSalary, salaryMatch, isRemote, categoryId, pageable);
+        
+        Optional<JobFacets> facets;
+        if (salaryMatch == SalaryMatchMode.OVERLAPS && (minSalary != null || maxSalary != null)) {
+            JobFilter attributeFilter = toFilter(location, jobType, experienceLevel, null, null, isRemote, categoryId);
+            facets = jobSalaryIndex.findOverlapping(minSalary, maxSalary)
+                    .flatMap(salaryMatches -> jobFacetIndex.facets(attributeFilter, salaryMatches));
+        } else {
+            facets = jobFacetIndex.facets(
+                    toFilter(location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId));
+        }
+        
+        return FacetedJobsResponse.builder()
+                .jobs(jobs)
+                .facets(facets.orElse(null))
+                .build();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<JobResponse> getJobsByFiltersSlice(String location, JobType jobType,
+                                                          ExperienceLevel experienceLevel,
+                                                          BigDecimal minSalary, BigDecimal maxSalary,
+                                                          SalaryMatchMode salaryMatch,
+                                                          Boolean isRemote, Long categoryId,
+                                                          boolean approximateTotal, Pageable pageable) {
+        if (salaryMatch == SalaryMatchMode.OVERLAPS && (minSalary != null || maxSalary != null)) {
+            Optional<JobIdBitmap> indexedMatches = findIndexedOverlapMatches(
+                    toFilter(location, jobType, experienceLevel, null, null, isRemote, categoryId),
+                    minSalary, maxSalary, pageable);
+            if (indexedMatches.isPresent()) {
+                return SliceResponse.of(loadNewestFirstPage(indexedMatches.get(), pageable),
+                        approximateTotal ? indexedMatches.get().cardinality() : null);
+            }
+            // No slice query for overlapping ranges, the page query's count doubles as the exact total
+            Page<JobResponse> jobs = getJobsByFilters(location, jobType, experienceLevel,
+                    minSalary, maxSalary, salaryMatch, isRemote, categoryId, pageable);
+            return SliceResponse.of(jobs, approximateTotal ? jobs.getTotalElements() : null);
+        }
+        
+        JobFilter filter = toFilter(location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId);
+        Optional<JobIdBitmap> indexedMatches = findIndexedMatches(filter, pageable);
+        if (indexedMatches.isPresent()) {
+            return SliceResponse.of(loadNewestFirstPage(indexedMatches.get(), pageable),
+                    approximateTotal ? indexedMatches.get().cardinality() : null);
+        }
+        
+        Slice<Job> jobs = jobRepository.findSliceByFilters(location, jobType, experienceLevel,
+                minSalary, maxSalary, isRemote, categoryId, pageable);
+        return SliceResponse.of(toResponseSlice(jobs),
+                approximateTotal ? approximateActiveJobCount() : null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsBySkills(List<Long> skillIds, Pageable pageable) {
+        return getJobsBySkills(skillIds, SkillMatchMode.ANY, null, pageable);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getJobsBySkills(List<Long> skillIds, SkillMatchMode matchMode,
+                                             Integer minimumMatches, Pageable pageable) {
+        int requiredMatches = resolveRequiredMatches(skillIds, matchMode, minimumMatches);
+        
+        if (jobSkillIndex.isReady() && pageable.getSort().isUnsorted()) {
+            List<Long> rankedJobIds = jobSkillIndex.match(skillIds, requiredMatches).stream()
+                    .map(SkillMatch::getJobId)
+                    .collect(Collectors.toList());
+            return loadPage(rankedJobIds, pageable);
+        }
+        
+        Page<Job> jobs = requiredMatches <= 1
+                ? jobRepository.findByRequiredSkillsIdIn(skillIds, pageable)
+                : jobRepository.findByRequiredSkillsMatchingAtLeast(skillIds, requiredMatches, pageable);
+        return toResponsePage(jobs);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<JobResponse> getJobsBySkillsSlice(List<Long> skillIds, boolean approximateTotal,
+                                                         Pageable pageable) {
+        if (jobSkillIndex.isReady() && pageable.getSort().isUnsorted()) {
+            List<Long> rankedJobIds = jobSkillIndex.match(skillIds, 1).stream()
+                    .map(SkillMatch::getJobId)
+                    .collect(Collectors.toList());
+            return SliceResponse.of(loadPage(rankedJobIds, pageable),
+                    approximateTotal ? (long) rankedJobIds.size() : null);
+        }
+        
+        Slice<Job> jobs = jobRepository.findSliceByRequiredSkillsIdIn(skillIds, pageable);
+        return SliceResponse.of(toResponseSlice(jobs),
+                approximateTotal ? approximateActiveJobCount() : null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public JobQueryResponse queryJobs(JobSearchRequest criteria, SkillMatchMode skillMatch, Integer minimumMatches,
+                                      boolean explain, Pageable pageable) {
+        if (!criteria.isValidSalaryRange()) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        
+        List<Long> skillIds = criteria.getSkillIds() != null
+                ? criteria.getSkillIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList())
+                : List.of();
+        int requiredMatches = skillIds.isEmpty() ? 0 : resolveRequiredMatches(skillIds, skillMatch, minimumMatches);
+        List<String> searchTerms = queryTerms(criteria.getSearchTerm());
+        String searchTerm = searchTerms.isEmpty() ? null : String.join(" ", searchTerms);
+        String companyName = criteria.getCompanyName() != null && !criteria.getCompanyName().isBlank()
+                ? criteria.getCompanyName().trim()
+                : null;
+        
+        long started = System.nanoTime();
+        String reason = "explicit sort requested";
+        if (pageable.getSort().isUnsorted()) {
+            JobFilter filter = JobFilter.builder()
+                    .location(criteria.getLocation())
+                    .jobType(criteria.getJobType())
+                    .experienceLevel(criteria.getExperienceLevel())
+                    .minSalary(criteria.getMinSalary())
+                    .maxSalary(criteria.getMaxSalary())
+                    .remote(criteria.getIsRemote())
+                    .categoryId(criteria.getCategoryId())
+                    .companyName(companyName)
+                    .build();
+            Optional<JobQueryResult> result = jobQueryPlanner.execute(JobQuery.builder()
+                    .searchTerm(searchTerm)
+                    .filter(filter)
+                    .skillIds(skillIds)
+                    .minimumSkillMatches(requiredMatches)
+                    .build());
+            if (result.isPresent()) {
+                return new JobQueryResponse(loadPage(result.get().getJobIds(), pageable),
+                        explain ? result.get().getPlan() : null);
+            }
+            reason = "in-memory indexes not loaded";
+        }
+        
+        Page<Job> jobs = jobRepository.findByQuery(searchTerms, criteria.getLocation(), criteria.getJobType(),
+                criteria.getExperienceLevel(), criteria.getMinSalary(), criteria.getMaxSalary(),
+                criteria.getIsRemote(), criteria.getCategoryId(), companyName, skillIds, requiredMatches, pageable);
+        QueryPlan plan = explain
+                ? QueryPlan.sql(reason, jobs.getTotalElements(), (System.nanoTime() - started) / 1_000_000.0)
+                : null;
+        return new JobQueryResponse(toResponsePage(jobs), plan);
+    }
+    
+    @Override
+    public void deactivateJob(Long jobId, Long employerId) {
+        log.info("Deactivating job: {} by employer: {}", jobId, employerId);
+        
+        if (changeActive(jobId, employerId, false, JobChangedEvent.ChangeType.DEACTIVATED)) {
+            log.info("Job deactivated successfully: {}", jobId);
+        }
+    }
+    
+    @Override
+    public void activateJob(Long jobId, Long employerId) {
+        log.info("Activating job: {} by employer: {}", jobId, employerId);
+        
+        if (changeActive(jobId, employerId, true, JobChangedEvent.ChangeType.ACTIVATED)) {
+            log.info("Job activated successfully: {}", jobId);
+        }
+    }
+    
+    @Override
+    public void deleteJob(Long jobId, Long employerId) {
+        log.info("Deleting (deactivating) job: {}", jobId);
+        deactivateJob(jobId, employerId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Long getActiveJobCountByCompany(Long companyId) {
+        return jobRepository.countActiveJobsByCompany(companyId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Long getActiveJobCountByCategory(Long categoryId) {
+        return jobRepository.countActiveJobsByCategory(categoryId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Long getActiveJobCountByUser(Long userId) {
+        return jobRepository.countActiveJobsByUser(userId);
+    }
+    
+    @Override
+    public int processExpiredJobs(LocalDateTime now, int limit) {
+        return deactivateExpiredJobs(jobRepository.findExpiredJobsForUpdate(now, PageRequest.ofSize(limit)), now);
+    }
+    
+    @Override
+    public JobExpiryResult expireJobs(Collection<Long> jobIds, LocalDateTime now) {
+        if (jobIds.isEmpty()) {
+            return JobExpiryResult.empty();
+        }
+        List<Job> expiredJobs = jobRepository.findExpiredJobsByIdInForUpdate(jobIds, now);
+        // Read on the primary once the locks are held, so jobs another node just closed are seen as closed
+        List<Long> alreadyInactive = jobRepository.findInactiveIdsIn(jobIds);
+        return JobExpiryResult.builder()
+                .deactivated(deactivateExpiredJobs(expiredJobs, now))
+                .alreadyInactiveJobIds(alreadyInactive)
+                .build();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getRecommendedJobs(Long userId, Pageable pageable) {
+        return aiService.getJobRecommendations(userId, pageable);
+    }
+    
+    // Private helper methods following SRP
+    /**
+     * One UPDATE for the locked expired jobs, then the skill counters and one change event per job
+     */
+    private int deactivateExpiredJobs(List<Job> expiredJobs, LocalDateTime now) {
+        if (expiredJobs.isEmpty()) {
+            return 0;
+        }
+        
+        // Snapshots are taken before the bulk UPDATE detaches the loaded jobs
+        List<JobDocument> previousDocuments = expiredJobs.stream()
+                .map(JobDocument::from)
+                .collect(Collectors.toList());
+        int deactivated = jobRepository.deactivateJobs(
+                previousDocuments.stream().map(JobDocument::getId).collect(Collectors.toList()), now);
+        
+        Map<Long, Integer> skillJobCountDeltas = new HashMap<>();
+        for (JobDocument previous : previousDocuments) {
+            JobDocument current = previous.toBuilder().active(false).build();
+            collectSkillJobCountDeltas(previous, current, skillJobCountDeltas);
+            eventPublisher.publishEvent(new JobChangedEvent(current, JobChangedEvent.ChangeType.DEACTIVATED, previous));
+        }
+        applySkillJobCountDeltas(skillJobCountDeltas);
+        
+        log.info("Deactivated {} expired jobs", deactivated);
+        return deactivated;
+    }
+    
+    private Job findJobById(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+    }
+    
+    private User findUserById(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+    }
+    
+    private JobCategory findCategory(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return jobCategoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("JobCategory", categoryId));
+    }
+    
+    private void verifyCanManage(Job job, Long employerId) {
+        User employer = findUserById(employerId);
+        if (!job.isOwnedBy(employer) && !employer.hasRole(UserRole.ADMIN)) {
+            throw new IllegalStateException("User cannot manage this job");
+        }
+    }
+    
+    /**
+     * Geocode the job from its location, falling back to its company's location when it has none
+     */
+    private void applyCoordinates(Job job) {
+        Company company = job.getCompany();
+        if (company != null && company.getLatitude() == null) {
+            gazetteer.resolve(company.getLocation()).ifPresent(point -> {
+                company.setLatitude(point.getLatitude());
+                company.setLongitude(point.getLongitude());
+            });
+        }
+        
+        Optional<GeoPoint> point = gazetteer.resolve(job.getLocation());
+        if (point.isEmpty() && (job.getLocation() == null || job.getLocation().isBlank())
+                && company != null && company.getLatitude() != null) {
+            point = Optional.of(new GeoPoint(company.getLatitude(), company.getLongitude()));
+        }
+        job.setLatitude(point.map(GeoPoint::getLatitude).orElse(null));
+        job.setLongitude(point.map(GeoPoint::getLongitude).orElse(null));
+    }
+    
+    private GeoPoint resolveCenter(GeoFilterRequest geo) {
+        if (geo.getNear() != null) {
+            return gazetteer.resolve(geo.getNear())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown place: " + geo.getNear()));
+        }
+        if (geo.getLatitude() != null && geo.getLongitude() != null) {
+            return new GeoPoint(geo.getLatitude(), geo.getLongitude());
+        }
+        return null;
+    }
+    
+    /**
+     * Geo matches restricted by the bitmap and salary indexes, empty when any of them cannot answer
+     */
+    private Optional<List<GeoMatch>> findIndexedGeoMatches(JobFilter attributeFilter,
+                                                           BigDecimal minYearlySalary, BigDecimal maxYearlySalary,
+                                                           BoundingBox box, GeoPoint origin, Double radiusKm) {
+        Optional<JobIdBitmap> candidates = jobFacetIndex.match(attributeFilter);
+        if (candidates.isPresent() && (minYearlySalary != null || maxYearlySalary != null)) {
+            Optional<JobIdBitmap> salaryMatches = jobSalaryIndex.findOverlapping(minYearlySalary, maxYearlySalary);
+            candidates = salaryMatches.map(candidates.get()::and);
+        }
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        JobIdBitmap allowed = candidates.get();
+        return jobGeoIndex.findWithin(box, origin, radiusKm)
+                .map(matches -> matches.stream()
+                        .filter(match -> allowed.contains(match.getJobId()))
+                        .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Number of distinct requested skills a job must require for the given mode
+     */
+    private int resolveRequiredMatches(List<Long> skillIds, SkillMatchMode matchMode, Integer minimumMatches) {
+        int distinctSkills = (int) skillIds.stream().distinct().count();
+        switch (matchMode != null ? matchMode : SkillMatchMode.ANY) {
+            case ALL:
+                return Math.max(distinctSkills, 1);
+            case AT_LEAST:
+                if (minimumMatches == null || minimumMatches < 1) {
+                    throw new IllegalArgumentException("minimumMatches must be at least 1 for AT_LEAST matching");
+                }
+                return minimumMatches;
+            default:
+                return 1;
+        }
+    }
+    
+    /**
+     * Distinct search terms as the text index tokenises them, so the SQL plan ANDs the same terms
+     */
+    private static List<String> queryTerms(String searchTerm) {
+        List<String> terms = SearchTokenizer.tokenize(searchTerm).stream().distinct().collect(Collectors.toList());
+        if (terms.size() > JobRepository.MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("searchTerm supports at most " + JobRepository.MAX_QUERY_TERMS + " terms");
+        }
+        return terms;
+    }
+    
+    private JobFilter toFilter(String location, JobType jobType, ExperienceLevel experienceLevel,
+                               BigDecimal minSalary, BigDecimal maxSalary, Boolean isRemote, Long categoryId) {
+        return JobFilter.builder()
+                .location(location)
+                .jobType(jobType)
+                .experienceLevel(experienceLevel)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .remote(isRemote)
+                .categoryId(categoryId)
+                .build();
+    }
+    
+    /**
+     * Matches from the bitmap index when it is loaded and no explicit sort was requested
+     */
+    private Optional<JobIdBitmap> findIndexedMatches(JobFilter filter, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return Optional.empty();
+        }
+        return jobFacetIndex.match(filter);
+    }
+    
+    /**
+     * Attribute matches from the bitmap index with salary ranges overlapping the bounds from the salary index,
+     * when both are loaded and no explicit sort was requested
+     */
+    private Optional<JobIdBitmap> findIndexedOverlapMatches(JobFilter attributeFilter, BigDecimal minSalary,
+                                                            BigDecimal maxSalary, Pageable pageable) {
+        Optional<JobIdBitmap> attributeMatches = findIndexedMatches(attributeFilter, pageable);
+        if (attributeMatches.isEmpty()) {
+            return Optional.empty();
+        }
+        return jobSalaryIndex.findOverlapping(minSalary, maxSalary).map(attributeMatches.get()::and);
+    }
+    
+    /**
+     * Rough size of the active catalogue: the index-side counter when loaded, otherwise the planner estimate
+     */
+    private Long approximateActiveJobCount() {
+        if (jobTextIndex.isReady()) {
+            return (long) jobTextIndex.size();
+        }
+        return jobRepository.estimateJobRowCount();
+    }
+    
+    private Pageable withoutSort(Pageable pageable) {
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+    }
+    
+    /**
+     * Flips the active flag with a gated UPDATE, only the transaction that changed the row moves the skill counters
+     */
+    private boolean changeActive(Long jobId, Long employerId, boolean active, JobChangedEvent.ChangeType changeType) {
+        Job job = findJobById(jobId);
+        verifyCanManage(job, employerId);
+        
+        if (jobRepository.updateActive(jobId, active, LocalDateTime.now()) == 0) {
+            log.info("Job {} is already {}, counters left unchanged", jobId, active ? "active" : "inactive");
+            return false;
+        }
+        
+        Job updated = findJobById(jobId);
+        JobDocument after = JobDocument.from(updated);
+        adjustSkillJobCounts(after.toBuilder().active(!active).build(), after);
+        publishJobChanged(updated, changeType);
+        return true;
+    }
+    
+    /**
+     * Keeps Skill.activeJobCount in step when a job enters or leaves the active set or changes its skills
+     */
+    private void adjustSkillJobCounts(JobDocument before, JobDocument after) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        collectSkillJobCountDeltas(before, after, deltas);
+        applySkillJobCountDeltas(deltas);
+    }
+    
+    private static void collectSkillJobCountDeltas(JobDocument before, JobDocument after, Map<Long, Integer> deltas) {
+        countedSkillIds(before).forEach(skillId -> deltas.merge(skillId, -1, Integer::sum));
+        countedSkillIds(after).forEach(skillId -> deltas.merge(skillId, 1, Integer::sum));
+    }
+    
+    private static Set<Long> countedSkillIds(JobDocument document) {
+        return document != null && document.isActive() ? new HashSet<>(document.getSkillIds()) : Set.of();
+    }
+    
+    /**
+     * One relative UPDATE per distinct delta, skills whose count did not move are left alone
+     */
+    private void applySkillJobCountDeltas(Map<Long, Integer> deltas) {
+        deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((delta, skillIds) -> skillRepository.adjustActiveJobCount(skillIds, delta));
+    }
+    
+    private void publishJobChanged(Job job, JobChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new JobChangedEvent(JobDocument.from(job), changeType));
+    }
+    
+    /**
+     * Database-backed query served from the shared result cache when the same criteria and page were seen before
+     */
+    private Page<JobResponse> cachedQuery(JobSearchRequest criteria, CachedSearchCriteria.Mode mode,
+                                          Pageable pageable, Supplier<Page<Job>> query) {
+        CachedSearchCriteria cacheCriteria = CachedSearchCriteria.of(criteria, mode);
+        Optional<CachedJobPage> cached = searchResultCache.get(cacheCriteria, pageable);
+        if (cached.isPresent()) {
+            return loadPage(cached.get().getJobIds(), pageable, cached.get().getTotalElements());
+        }
+        
+        CachedJobPage page = computeCachedPage(cacheCriteria, pageable, query);
+        return loadPage(page.getJobIds(), pageable, page.getTotalElements());
+    }
+    
+    /**
+     * Summary variant of {@link #cachedQuery}, sharing its cache entries; summaries are projected from the page's IDs
+     */
+    private Page<JobSummaryResponse> cachedSummaryQuery(JobSearchRequest criteria, CachedSearchCriteria.Mode mode,
+                                                        Pageable pageable, Supplier<Page<Job>> query) {
+        CachedSearchCriteria cacheCriteria = CachedSearchCriteria.of(criteria, mode);
+        CachedJobPage page = searchResultCache.get(cacheCriteria, pageable)
+                .orElseGet(() -> computeCachedPage(cacheCriteria, pageable, query));
+        return loadSummaryPage(page.getJobIds(), pageable, page.getTotalElements());
+    }
+    
+    /**
+     * Runs the query on the primary and stores its page. A replica page could predate the eviction that
+     * bumped the epoch and would then stay cached for the full TTL; rows are materialised by the caller.
+     */
+    private CachedJobPage computeCachedPage(CachedSearchCriteria cacheCriteria, Pageable pageable,
+                                            Supplier<Page<Job>> query) {
+        long epoch = searchResultCache.currentEpoch();
+        CachedJobPage computed = primaryReadTemplate.execute(() -> CachedJobPage.of(query.get()));
+        searchResultCache.put(cacheCriteria, pageable, computed, epoch);
+        return computed;
+    }
+    
+    private JobSearchRequest searchCriteria(String searchTerm) {
+        JobSearchRequest criteria = new JobSearchRequest();
+        criteria.setSearchTerm(searchTerm);
+        return criteria;
+    }
+    
+    private JobSearchRequest filterCriteria(String location, JobType jobType, ExperienceLevel experienceLevel,
+                                            BigDecimal minSalary, BigDecimal maxSalary,
+                                            Boolean isRemote, Long categoryId) {
+        JobSearchRequest criteria = new JobSearchRequest();
+        criteria.setLocation(location);
+        criteria.setJobType(jobType);
+        criteria.setExperienceLevel(experienceLevel);
+        criteria.setMinSalary(minSalary);
+        criteria.setMaxSalary(maxSalary);
+        criteria.setIsRemote(isRemote);
+        criteria.setCategoryId(categoryId);
+        return criteria;
+    }
+    
+    /**
+     * Materialise one page of an ordered ID list, fetching only that page's rows
+     */
+    private Page<JobResponse> loadPage(List<Long> orderedJobIds, Pageable pageable) {
+        return loadPage(pageOf(orderedJobIds, pageable), pageable, orderedJobIds.size());
+    }
+    
+    /**
+     * One newest-first page of a filter bitmap
+     */
+    private Page<JobResponse> loadNewestFirstPage(JobIdBitmap matches, Pageable pageable) {
+        return loadPage(newestFirstPageIds(matches, pageable), pageable, matches.cardinality());
+    }
+    
+    /**
+     * The page's IDs of a filter bitmap newest first, only the IDs up to the end of the page are ordered
+     */
+    private List<Long> newestFirstPageIds(JobIdBitmap matches, Pageable pageable) {
+        int limit = pageable.isPaged()
+                ? (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE)
+                : Integer.MAX_VALUE;
+        return pageOf(jobFacetIndex.newestFirst(matches, limit), pageable);
+    }
+    
+    private static List<Long> pageOf(List<Long> orderedJobIds, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return orderedJobIds;
+        }
+        int from = (int) Math.min(pageable.getOffset(), orderedJobIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedJobIds.size());
+        return orderedJobIds.subList(from, to);
+    }
+    
+    /**
+     * Materialise an already paged ID list in its given order
+     */
+    private Page<JobResponse> loadPage(List<Long> pageIds, Pageable pageable, long total) {
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, total);
+        }
+        
+        Map<Long, Job> jobsById = jobRepository.findByIdInAndIsActiveTrue(pageIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        
+        List<Job> jobs = pageIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        
+        return new PageImpl<>(toResponses(jobs), pageable, total);
+    }
+    
+    /**
+     * Summaries for one page of an ordered ID list, one projection query for that page only
+     */
+    private Page<JobSummaryResponse> loadSummaryPage(List<Long> orderedJobIds, Pageable pageable) {
+        return loadSummaryPage(pageOf(orderedJobIds, pageable), pageable, orderedJobIds.size());
+    }
+    
+    /**
+     * Summaries for an already paged ID list in its given order
+     */
+    private Page<JobSummaryResponse> loadSummaryPage(List<Long> pageIds, Pageable pageable, long total) {
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, total);
+        }
+        
+        Map<Long, JobSummary> summariesById = jobRepository.findActiveSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(JobSummary::getId, Function.identity()));
+        
+        List<JobSummaryResponse> content = pageIds.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .map(jobMapper::toSummaryResponse)
+                .collect(Collectors.toList());
+        
+        return new PageImpl<>(content, pageable, total);
+    }
+    
+    private Page<JobResponse> toResponsePage(Page<Job> jobs) {
+        return new PageImpl<>(toResponses(jobs.getContent()), jobs.getPageable(), jobs.getTotalElements());
+    }
+    
+    private Slice<JobResponse> toResponseSlice(Slice<Job> jobs) {
+        return new SliceImpl<>(toResponses(jobs.getContent()), jobs.getPageable(), jobs.hasNext());
+    }
+    
+    /**
+     * Maps a page of jobs with a fixed number of statements whatever the page size: company, category and
+     * poster are batch-fetched, skills are batch-fetched, and the company and category job counts come from
+     * two grouped queries instead of walking each entity's job collection
+     */
+    private List<JobResponse> toResponses(List<Job> jobs) {
+        List<JobResponse> responses = jobs.stream()
+                .map(jobMapper::toPageItem)
+                .collect(Collectors.toList());
+        
+        Set<Long> companyIds = responses.stream()
+                .filter(response -> response.getCompany() != null)
+                .map(response -> response.getCompany().getId())
+                .collect(Collectors.toSet());
+        if (!companyIds.isEmpty()) {
+            Map<Long, Long> activeJobs = toCounts(jobRepository.countActiveJobsByCompanyIds(companyIds), 1);
+            responses.stream()
+                    .filter(response -> response.getCompany() != null)
+                    .forEach(response -> response.getCompany().setActiveJobCount(
+                            activeJobs.getOrDefault(response.getCompany().getId(), 0L).intValue()));
+        }
+        
+        Set<Long> categoryIds = responses.stream()
+                .filter(response -> response.getCategory() != null)
+                .map(response -> response.getCategory().getId())
+                .collect(Collectors.toSet());
+        if (!categoryIds.isEmpty()) {
+            List<Object[]> rows = jobRepository.countJobsByCategoryIds(categoryIds);
+            Map<Long, Long> allJobs = toCounts(rows, 1);
+            Map<Long, Long> activeJobs = toCounts(rows, 2);
+            responses.stream()
+                    .filter(response -> response.getCategory() != null)
+                    .forEach(response -> {
+                        Long categoryId = response.getCategory().getId();
+                        response.getCategory().setJobCount(allJobs.getOrDefault(categoryId, 0L).intValue());
+                        response.getCategory().setActiveJobCount(activeJobs.getOrDefault(categoryId, 0L).intValue());
+                    });
+        }
+        return responses;
+    }
+    
+    /**
+     * ID to count map from grouped count rows, the ID in column 0 and the count in the given column
+     */
+    private static Map<Long, Long> toCounts(List<Object[]> rows, int column) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], row[column] != null ? ((Number) row[column]).longValue() : 0L);
+        }
+        return counts;
+    }
+}
@@ -1,6 +1,7 @@
 package com.nexus.jobboard.application.service.impl;
 
 import com.nexus.jobboard.application.dto.message.EmailMessage;
+import com.nexus.jobboard.application.dto.message.JobApplicationBatchMessage;
 import com.nexus.jobboard.application.dto.message.JobApplicationMessage;
 import com.nexus.jobboard.application.service.NotificationService;
 import com.nexus.jobboard.infrastructure.messaging.RabbitMQConfig;
@@ -119,6 +120,18 @@ public class NotificationServiceImpl implements NotificationService {
         sendEmail(emailMessage);
     }
     
+    @Override
+    public void sendApplicationStatusUpdates(JobApplicationBatchMessage batchMessage) {
+        log.info("Publishing {} application status updates for job: {}", 
+                batchMessage.getRecipients().size(), batchMessage.getJobTitle());
+        
+        rabbitTemplate.convertAndSend(
+                RabbitMQConfig.JOB_EXCHANGE,
+                RabbitMQConfig.JOB_APPLICATION_BATCH_ROUTING_KEY,
+                batchMessage
+        );
+    }
+    
     @Override
     public void sendJobRecommendationNotification(Long userId, String email, String jobTitle, Long jobId) {
         log.info("Sending job recommendation notification to: {}", email);
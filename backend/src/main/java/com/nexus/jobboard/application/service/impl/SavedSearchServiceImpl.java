@@ -0,0 +1,208 @@
+package com.nexus.jobboard.application.service.impl;
+
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+import com.nexus.jobboard.application.dto.request.SavedSearchRequest;
+import com.nexus.jobboard.application.dto.response.SavedSearchResponse;
+import com.nexus.jobboard.application.service.NotificationService;
+import com.nexus.jobboard.application.service.SavedSearchService;
+import com.nexus.jobboard.domain.model.SavedSearch;
+import com.nexus.jobboard.domain.model.User;
+import com.nexus.jobboard.domain.repository.SavedSearchRepository;
+import com.nexus.jobboard.domain.repository.UserRepository;
+import com.nexus.jobboard.infrastructure.exception.ResourceNotFoundException;
+import com.nexus.jobboard.infrastructure.search.JobChangedEvent;
+import com.nexus.jobboard.infrastructure.search.JobDocument;
+import com.nexus.jobboard.infrastructure.search.SavedQuery;
+import com.nexus.jobboard.infrastructure.search.SavedSearchChangedEvent;
+import com.nexus.jobboard.infrastructure.search.SavedSearchPercolator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Saved search service implementation following SOLID principles
+ * 
+ * SRP: Handles only saved search management and new job alerts
+ * OCP: Open for extension through interface implementation
+ * LSP: Substitutable for SavedSearchService interface
+ * ISP: Depends only on specific interfaces it needs
+ * DIP: Depends on abstractions (repositories, percolator, notification service)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SavedSearchServiceImpl implements SavedSearchService {
+    
+    private final SavedSearchRepository savedSearchRepository;
+    private final UserRepository userRepository;
+    private final SavedSearchPercolator savedSearchPercolator;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${saved-search.max-per-user:20}")
+    private int maxSavedSearchesPerUser;
+    
+    @Override
+    public SavedSearchResponse createSavedSearch(SavedSearchRequest request, Long userId) {
+        log.info("Creating saved search '{}' for user: {}", request.getName(), userId);
+        
+        if (!request.isValidCriteria()) {
+            throw new IllegalArgumentException("Saved search needs at least one criterion and a valid salary range");
+        }
+        if (savedSearchRepository.countByUserId(userId) >= maxSavedSearchesPerUser) {
+            throw new IllegalStateException("User cannot have more than " + maxSavedSearchesPerUser + " saved searches");
+        }
+        
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+        
+        JobSearchRequest criteria = request.getCriteria();
+        SavedSearch savedSearch = SavedSearch.builder()
+                .user(user)
+                .name(request.getName())
+                .searchTerm(criteria.getSearchTerm())
+                .location(criteria.getLocation())
+                .jobType(criteria.getJobType())
+                .experienceLevel(criteria.getExperienceLevel())
+                .minSalary(criteria.getMinSalary())
+                .maxSalary(criteria.getMaxSalary())
+                .isRemote(criteria.getIsRemote())
+                .categoryId(criteria.getCategoryId())
+                .companyName(criteria.getCompanyName())
+                .skillIds(criteria.getSkillIds() != null
+                        ? new ArrayList<>(criteria.getSkillIds())
+                        : new ArrayList<>())
+                .build();
+        
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.registered(SavedQuery.from(saved)));
+        
+        log.info("Saved search created successfully with ID: {}", saved.getId());
+        return toResponse(saved);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getSavedSearches(Long userId) {
+        return savedSearchRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public SavedSearchResponse setAlertsEnabled(Long savedSearchId, Long userId, boolean enabled) {
+        log.info("Setting alerts {} for saved search: {}", enabled ? "on" : "off", savedSearchId);
+        
+        SavedSearch savedSearch = findOwnedSavedSearch(savedSearchId, userId);
+        savedSearch.setIsActive(enabled);
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        
+        eventPublisher.publishEvent(enabled
+                ? SavedSearchChangedEvent.registered(SavedQuery.from(saved))
+                : SavedSearchChangedEvent.removed(saved.getId()));
+        return toResponse(saved);
+    }
+    
+    @Override
+    public void deleteSavedSearch(Long savedSearchId, Long userId) {
+        log.info("Deleting saved search: {}", savedSearchId);
+        
+        SavedSearch savedSearch = findOwnedSavedSearch(savedSearchId, userId);
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.removed(savedSearchId));
+        
+        log.info("Saved search deleted successfully: {}", savedSearchId);
+    }
+    
+    /**
+     * Percolates newly visible jobs against the saved searches once the job write has committed.
+     * Runs off the request thread; a user matched by several saved searches gets a single alert.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getChangeType() != JobChangedEvent.ChangeType.CREATED
+                && event.getChangeType() != JobChangedEvent.ChangeType.ACTIVATED) {
+            return;
+        }
+        
+        JobDocument document = event.getDocument();
+        if (!document.isActive() || !savedSearchPercolator.isReady()) {
+            return;
+        }
+        
+        Map<Long, SavedQuery> firstMatchByUser = new LinkedHashMap<>();
+        for (SavedQuery query : savedSearchPercolator.percolate(document)) {
+            firstMatchByUser.putIfAbsent(query.getUserId(), query);
+        }
+        
+        // Current addresses, a user may have changed email or been deactivated since the search was saved
+        Map<Long, User> recipients = userRepository.findAllById(firstMatchByUser.keySet()).stream()
+                .filter(user -> Boolean.TRUE.equals(user.getIsActive()) && user.getEmail() != null)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        
+        for (SavedQuery query : firstMatchByUser.values()) {
+            User recipient = recipients.get(query.getUserId());
+            if (recipient == null) {
+                continue;
+            }
+            try {
+                notificationService.sendJobRecommendationNotification(
+                        query.getUserId(), recipient.getEmail(), document.getTitle(), document.getId());
+            } catch (Exception e) {
+                log.error("Failed to publish saved search alert {} for job {}", query.getId(), document.getId(), e);
+            }
+        }
+        
+        if (!firstMatchByUser.isEmpty()) {
+            log.info("Job {} matched saved searches of {} users", document.getId(), firstMatchByUser.size());
+        }
+    }
+    
+    private SavedSearch findOwnedSavedSearch(Long savedSearchId, Long userId) {
+        SavedSearch savedSearch = savedSearchRepository.findById(savedSearchId)
+                .orElseThrow(() -> new ResourceNotFoundException("SavedSearch", savedSearchId));
+        if (!savedSearch.isOwnedBy(userId)) {
+            throw new IllegalStateException("User is not authorized to manage this saved search");
+        }
+        return savedSearch;
+    }
+    
+    private SavedSearchResponse toResponse(SavedSearch savedSearch) {
+        JobSearchRequest criteria = new JobSearchRequest();
+        criteria.setSearchTerm(savedSearch.getSearchTerm());
+        criteria.setLocation(savedSearch.getLocation());
+        criteria.setJobType(savedSearch.getJobType());
+        criteria.setExperienceLevel(savedSearch.getExperienceLevel());
+        criteria.setMinSalary(savedSearch.getMinSalary());
+        criteria.setMaxSalary(savedSearch.getMaxSalary());
+        criteria.setIsRemote(savedSearch.getIsRemote());
+        criteria.setCategoryId(savedSearch.getCategoryId());
+        criteria.setCompanyName(savedSearch.getCompanyName());
+        criteria.setSkillIds(new ArrayList<>(savedSearch.getSkillIds()));
+        
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .criteria(criteria)
+                .isActive(savedSearch.getIsActive())
+                .createdAt(savedSearch.getCreatedAt())
+                .updatedAt(savedSearch.getUpdatedAt())
+                .build();
+    }
+}
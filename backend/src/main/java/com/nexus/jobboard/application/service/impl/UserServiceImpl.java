@@ -1,7 +1,10 @@
 package com.nexus.jobboard.application.service.impl;
 
+import com.nexus.jobboard.application.dto.request.KeysetCursor;
+import com.nexus.jobboard.application.dto.request.SearchStrategy;
 import com.nexus.jobboard.application.dto.request.UserRegistrationRequest;
 import com.nexus.jobboard.application.dto.request.UserUpdateRequest;
+import com.nexus.jobboard.application.dto.response.CursorPage;
 import com.nexus.jobboard.application.dto.response.UserResponse;
 import com.nexus.jobboard.application.mapper.UserMapper;
 import com.nexus.jobboard.application.service.UserService;
@@ -15,11 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -121,6 +126,19 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::toResponse);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> getAllUsers(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decodeOrStart(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        
+        List<User> rows = userRepository.findUsersBefore(
+                position.getTimestamp(), position.getId(), PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(rows, pageSize,
+                user -> new KeysetCursor(user.getCreatedAt(), user.getId()),
+                userMapper::toResponse);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponse> getUsersByRole(UserRole role, Pageable pageable) {
@@ -135,6 +153,17 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::toResponse);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> searchUsers(String searchTerm, SearchStrategy strategy, Pageable pageable) {
+        if (strategy != SearchStrategy.FULL_TEXT) {
+            return searchUsers(searchTerm, pageable);
+        }
+        // Results are ranked by ts_rank, so any client sort is dropped
+        return userRepository.findByFullTextSearch(searchTerm, withoutSort(pageable))
+                .map(userMapper::toResponse);
+    }
+    
     @Override
     @CacheEvict(value = "users", key = "#userId")
     public void deactivateUser(Long userId) {
@@ -195,6 +224,10 @@ public class UserServiceImpl implements UserService {
     }
     
     // Private helper methods following SRP
+    private Pageable withoutSort(Pageable pageable) {
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+    }
+    
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", userId));
@@ -0,0 +1,78 @@
+package com.nexus.jobboard.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Denormalised application counters of a job following SRP
+ * - Responsible only for exposing how many applications a job has, in total and per status
+ * - Columns are never written through the entity, JobRepository.adjustApplicationCounts moves them
+ *   with relative updates so a stale Job instance cannot overwrite a concurrent change
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCounts {
+    
+    @Column(name = "application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer total = 0;
+    
+    @Column(name = "pending_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer pending = 0;
+    
+    @Column(name = "reviewing_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer reviewing = 0;
+    
+    @Column(name = "shortlisted_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer shortlisted = 0;
+    
+    @Column(name = "interview_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer interviewScheduled = 0;
+    
+    @Column(name = "rejected_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer rejected = 0;
+    
+    @Column(name = "accepted_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer accepted = 0;
+    
+    @Column(name = "withdrawn_application_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer withdrawn = 0;
+    
+    public int countFor(ApplicationStatus status) {
+        Integer count = switch (status) {
+            case PENDING -> pending;
+            case REVIEWING -> reviewing;
+            case SHORTLISTED -> shortlisted;
+            case INTERVIEW_SCHEDULED -> interviewScheduled;
+            case REJECTED -> rejected;
+            case ACCEPTED -> accepted;
+            case WITHDRAWN -> withdrawn;
+        };
+        return count != null ? count : 0;
+    }
+    
+    public Map<ApplicationStatus, Integer> byStatus() {
+        Map<ApplicationStatus, Integer> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, countFor(status));
+        }
+        return counts;
+    }
+}
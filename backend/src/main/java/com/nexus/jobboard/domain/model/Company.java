@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,10 +25,12 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@BatchSize(size = 100)
 public class Company {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_seq")
+    @SequenceGenerator(name = "companies_seq", sequenceName = "companies_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -42,6 +45,11 @@ public class Company {
     
     private String location;
     
+    // Coordinates resolved from location against the local gazetteer, null when unknown
+    private Double latitude;
+    
+    private Double longitude;
+    
     private String logoUrl;
     
     @Enumerated(EnumType.STRING)
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,7 +22,8 @@ import java.util.List;
     @Index(name = "idx_job_location", columnList = "location"),
     @Index(name = "idx_job_type", columnList = "jobType"),
     @Index(name = "idx_job_active", columnList = "isActive"),
-    @Index(name = "idx_job_created", columnList = "createdAt")
+    @Index(name = "idx_job_created", columnList = "createdAt"),
+    @Index(name = "idx_job_geo", columnList = "latitude, longitude")
 })
 @Data
 @Builder
@@ -30,7 +32,8 @@ import java.util.List;
 public class Job {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -60,6 +63,11 @@ public class Job {
     
     private String location;
     
+    // Coordinates resolved from location against the local gazetteer, null when unknown
+    private Double latitude;
+    
+    private Double longitude;
+    
     private BigDecimal salaryMin;
     
     private BigDecimal salaryMax;
@@ -83,12 +91,17 @@ public class Job {
     @Builder.Default
     private List<JobApplication> applications = new ArrayList<>();
     
+    @Embedded
+    @Builder.Default
+    private ApplicationCounts applicationCounts = new ApplicationCounts();
+    
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "job_skills",
         joinColumns = @JoinColumn(name = "job_id"),
         inverseJoinColumns = @JoinColumn(name = "skill_id")
     )
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Skill> requiredSkills = new ArrayList<>();
     
@@ -109,12 +122,14 @@ public class Job {
     }
     
     // Business logic methods following SRP
+    // Same boundary as the expiry queries, a job is closed once its deadline is reached
     public boolean isApplicationDeadlinePassed() {
-        return applicationDeadline != null && LocalDateTime.now().isAfter(applicationDeadline);
+        return applicationDeadline != null && !LocalDateTime.now().isBefore(applicationDeadline);
     }
     
+    // Jobs are deactivated at their deadline by the deadline wheel, with the expiry sweep as safety net
     public boolean canAcceptApplications() {
-        return isActive && !isApplicationDeadlinePassed();
+        return Boolean.TRUE.equals(isActive);
     }
     
     public boolean isOwnedBy(User user) {
@@ -126,7 +141,7 @@ public class Job {
     }
     
     public int getApplicationCount() {
-        return applications != null ? applications.size() : 0;
+        return applicationCounts != null && applicationCounts.getTotal() != null ? applicationCounts.getTotal() : 0;
     }
     
     public void addSkill(Skill skill) {
@@ -0,0 +1,55 @@
+package com.nexus.jobboard.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Salary band enumeration following SRP
+ * - Single responsibility: Group yearly salaries into the ranges shown next to the job filters
+ */
+public enum SalaryBand {
+    UNDER_30K("Under 30k", null, new BigDecimal("30000")),
+    FROM_30K_TO_60K("30k - 60k", new BigDecimal("30000"), new BigDecimal("60000")),
+    FROM_60K_TO_100K("60k - 100k", new BigDecimal("60000"), new BigDecimal("100000")),
+    FROM_100K_TO_150K("100k - 150k", new BigDecimal("100000"), new BigDecimal("150000")),
+    OVER_150K("150k and above", new BigDecimal("150000"), null),
+    UNSPECIFIED("Not specified", null, null);
+    
+    private final String description;
+    private final BigDecimal lowerBound;
+    private final BigDecimal upperBound;
+    
+    SalaryBand(String description, BigDecimal lowerBound, BigDecimal upperBound) {
+        this.description = description;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * Band of a job, using the top of its advertised range converted to a yearly figure
+     */
+    public static SalaryBand of(BigDecimal salaryMin, BigDecimal salaryMax, SalaryType salaryType) {
+        BigDecimal amount = salaryMax != null ? salaryMax : salaryMin;
+        BigDecimal annual = (salaryType != null ? salaryType : SalaryType.YEARLY).toAnnual(amount);
+        if (annual == null) {
+            return UNSPECIFIED;
+        }
+        for (SalaryBand band : values()) {
+            if (band.contains(annual)) {
+                return band;
+            }
+        }
+        return UNSPECIFIED;
+    }
+    
+    private boolean contains(BigDecimal annual) {
+        if (this == UNSPECIFIED) {
+            return false;
+        }
+        return (lowerBound == null || annual.compareTo(lowerBound) >= 0)
+                && (upperBound == null || annual.compareTo(upperBound) < 0);
+    }
+}
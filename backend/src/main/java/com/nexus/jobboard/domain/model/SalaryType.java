@@ -1,5 +1,8 @@
 package com.nexus.jobboard.domain.model;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  * Salary type enumeration following SRP
  * - Single responsibility: Define salary types and their calculation methods
@@ -31,4 +34,15 @@ public enum SalaryType {
     public boolean isTimeBasedSalary() {
         return hoursPerPeriod > 0;
     }
+    
+    /**
+     * Convert an amount paid per period to a yearly figure, null for project based pay
+     */
+    public BigDecimal toAnnual(BigDecimal amount) {
+        if (amount == null || !isTimeBasedSalary()) {
+            return null;
+        }
+        return amount.multiply(BigDecimal.valueOf(YEARLY.hoursPerPeriod))
+                .divide(BigDecimal.valueOf(hoursPerPeriod), 2, RoundingMode.HALF_UP);
+    }
 }
@@ -0,0 +1,93 @@
+package com.nexus.jobboard.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saved search domain model following SRP
+ * - Responsible only for a job seeker's stored search criteria and alert preference
+ */
+@Entity
+@Table(name = "saved_searches", indexes = {
+    @Index(name = "idx_saved_search_user", columnList = "user_id"),
+    @Index(name = "idx_saved_search_active", columnList = "isActive")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_searches_seq")
+    @SequenceGenerator(name = "saved_searches_seq", sequenceName = "saved_searches_seq", allocationSize = 50)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    private String searchTerm;
+    
+    private String location;
+    
+    @Enumerated(EnumType.STRING)
+    private JobType jobType;
+    
+    @Enumerated(EnumType.STRING)
+    private ExperienceLevel experienceLevel;
+    
+    private BigDecimal minSalary;
+    
+    private BigDecimal maxSalary;
+    
+    private Boolean isRemote;
+    
+    private Long categoryId;
+    
+    private String companyName;
+    
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "saved_search_skills", joinColumns = @JoinColumn(name = "saved_search_id"))
+    @Column(name = "skill_id")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<Long> skillIds = new ArrayList<>();
+    
+    // Alerts are sent only while the saved search is active
+    @Builder.Default
+    private Boolean isActive = true;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Business logic methods following SRP
+    public boolean isOwnedBy(Long userId) {
+        return user != null && user.getId().equals(userId);
+    }
+}
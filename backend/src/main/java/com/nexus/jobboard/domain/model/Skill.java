@@ -18,7 +18,8 @@ import java.util.List;
 @Table(name = "skills", indexes = {
     @Index(name = "idx_skill_name", columnList = "name"),
     @Index(name = "idx_skill_category", columnList = "category"),
-    @Index(name = "idx_skill_active", columnList = "isActive")
+    @Index(name = "idx_skill_active", columnList = "isActive"),
+    @Index(name = "idx_skill_active_job_count", columnList = "activeJobCount")
 })
 @Data
 @Builder
@@ -27,7 +28,8 @@ import java.util.List;
 public class Skill {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_seq")
+    @SequenceGenerator(name = "skills_seq", sequenceName = "skills_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -45,6 +47,11 @@ public class Skill {
     @Builder.Default
     private List<Job> jobs = new ArrayList<>();
     
+    // Number of active jobs requiring this skill, maintained by bulk increments in the job service only
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer activeJobCount = 0;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -63,7 +70,7 @@ public class Skill {
     
     // Business logic methods
     public int getJobCount() {
-        return jobs != null ? jobs.size() : 0;
+        return activeJobCount != null ? activeJobCount : 0;
     }
     
     public boolean isTechnicalSkill() {
@@ -59,6 +59,25 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
            "LOWER(c.description) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Company> findBySearchTerm(@Param("search") String search, Pageable pageable);
     
+    // PostgreSQL full-text search, expression matches idx_company_search so the GIN index is used
+    @Query(value = "SELECT c.* FROM companies c WHERE " +
+                   "to_tsvector('english', c.name || ' ' || COALESCE(c.description, '')) @@ websearch_to_tsquery('english', :search) " +
+                   "ORDER BY ts_rank(to_tsvector('english', c.name || ' ' || COALESCE(c.description, '')), " +
+                   "websearch_to_tsquery('english', :search)) DESC, c.name",
+           countQuery = "SELECT COUNT(*) FROM companies c WHERE " +
+                        "to_tsvector('english', c.name || ' ' || COALESCE(c.description, '')) @@ websearch_to_tsquery('english', :search)",
+           nativeQuery = true)
+    Page<Company> findByFullTextSearch(@Param("search") String search, Pageable pageable);
+    
+    List<Company> findByLatitudeIsNullAndLocationIsNotNull();
+    
+    // Typo-tolerant name search with pg_trgm, the <% operator uses idx_company_name_trgm
+    @Query(value = "SELECT c.* FROM companies c WHERE :search <% c.name " +
+                   "ORDER BY word_similarity(:search, c.name) DESC, c.name",
+           countQuery = "SELECT COUNT(*) FROM companies c WHERE :search <% c.name",
+           nativeQuery = true)
+    Page<Company> findByTrigramSimilarity(@Param("search") String search, Pageable pageable);
+    
     // Advanced filtering
     @Query("SELECT c FROM Company c WHERE " +
            "(:isVerified IS NULL OR c.isVerified = :isVerified) AND " +
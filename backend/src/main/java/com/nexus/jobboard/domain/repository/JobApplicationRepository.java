@@ -2,14 +2,18 @@ package com.nexus.jobboard.domain.repository;
 
 import com.nexus.jobboard.domain.model.JobApplication;
 import com.nexus.jobboard.domain.model.ApplicationStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,6 +58,44 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     @Query("SELECT ja FROM JobApplication ja WHERE ja.appliedAt >= :date")
     List<JobApplication> findRecentApplications(@Param("date") LocalDateTime date);
     
+    // Keyset pagination, newest first (no COUNT query)
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.job.id = :jobId AND ja.appliedAt <= :appliedAt AND " +
+           "(ja.appliedAt < :appliedAt OR ja.id < :id) " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findByJobIdBefore(@Param("jobId") Long jobId,
+                                           @Param("appliedAt") LocalDateTime appliedAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+    
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.job.id = :jobId AND ja.status = :status AND " +
+           "ja.appliedAt <= :appliedAt AND (ja.appliedAt < :appliedAt OR ja.id < :id) " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findByJobIdAndStatusBefore(@Param("jobId") Long jobId,
+                                                    @Param("status") ApplicationStatus status,
+                                                    @Param("appliedAt") LocalDateTime appliedAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+    
+    // Single status changes: lock the application, so its previous status and the counters moved from it agree
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.id = :id")
+    Optional<JobApplication> findByIdForUpdate(@Param("id") Long id);
+    
+    // Bulk status changes: lock the open applications, then update them by ID in set-based chunks
+    @Query(value = "SELECT id, status, applicant_id FROM job_applications " +
+                   "WHERE job_id = :jobId AND status NOT IN (:finalStatuses) ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockOpenApplicationsByJobId(@Param("jobId") Long jobId,
+                                               @Param("finalStatuses") Collection<String> finalStatuses);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JobApplication ja SET ja.status = :status, ja.notes = :notes, ja.reviewedAt = :reviewedAt " +
+           "WHERE ja.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") ApplicationStatus status,
+                           @Param("notes") String notes,
+                           @Param("reviewedAt") LocalDateTime reviewedAt);
+    
     // Statistics
     @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job.id = :jobId")
     Long countApplicationsByJob(@Param("jobId") Long jobId);
@@ -3,16 +3,27 @@ package com.nexus.jobboard.domain.repository;
 import com.nexus.jobboard.domain.model.Job;
 import com.nexus.jobboard.domain.model.JobType;
 import com.nexus.jobboard.domain.model.ExperienceLevel;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Job repository interface following ISP
@@ -22,6 +33,89 @@ import java.util.List;
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
     
+    /**
+     * Multiplier turning a posted salary into a yearly figure, mirrors SalaryType.toAnnual
+     */
+    String YEARLY_SALARY_FACTOR = "(CASE j.salaryType " +
+            "WHEN com.nexus.jobboard.domain.model.SalaryType.HOURLY THEN 2080.0 " +
+            "WHEN com.nexus.jobboard.domain.model.SalaryType.DAILY THEN 260.0 " +
+            "WHEN com.nexus.jobboard.domain.model.SalaryType.WEEKLY THEN 52.0 " +
+            "WHEN com.nexus.jobboard.domain.model.SalaryType.MONTHLY THEN 13.0 " +
+            "WHEN com.nexus.jobboard.domain.model.SalaryType.PROJECT_BASED THEN NULL " +
+            "ELSE 1.0 END)";
+    
+    /**
+     * Great-circle distance in km from the center parameters, spherical law of cosines
+     */
+    String DISTANCE_KM = "(6371.0 * ACOS(LEAST(1.0, " +
+            "COS(RADIANS(:centerLatitude)) * COS(RADIANS(j.latitude)) * COS(RADIANS(j.longitude) - RADIANS(:centerLongitude)) + " +
+            "SIN(RADIANS(:centerLatitude)) * SIN(RADIANS(j.latitude)))))";
+    
+    /**
+     * /jobs/filter criteria plus a bounding box and optional radius, salary compared as posted or as overlapping yearly ranges
+     */
+    String GEO_FILTER_CONDITIONS =
+            "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
+            "(:jobType IS NULL OR j.jobType = :jobType) AND " +
+            "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
+            "(:minSalary IS NULL OR (:overlappingSalary = false AND j.salaryMin >= :minSalary) OR " +
+            "(:overlappingSalary = true AND COALESCE(j.salaryMax, j.salaryMin) * " + YEARLY_SALARY_FACTOR + " >= :minSalary)) AND " +
+            "(:maxSalary IS NULL OR (:overlappingSalary = false AND j.salaryMax <= :maxSalary) OR " +
+            "(:overlappingSalary = true AND COALESCE(j.salaryMin, j.salaryMax) * " + YEARLY_SALARY_FACTOR + " <= :maxSalary)) AND " +
+            "(:isRemote IS NULL OR j.isRemote = :isRemote) AND " +
+            "(:categoryId IS NULL OR j.category.id = :categoryId) AND " +
+            "j.latitude BETWEEN :minLatitude AND :maxLatitude AND " +
+            "j.longitude BETWEEN :minLongitude AND :maxLongitude AND " +
+            "(:radiusKm IS NULL OR " + DISTANCE_KM + " <= :radiusKm)";
+    
+    /**
+     * Most search terms /jobs/query accepts, each one is bound to its own term slot
+     */
+    int MAX_QUERY_TERMS = 5;
+    
+    /**
+     * Lower-cased text a /jobs/query term is matched against, the same fields the text index covers
+     */
+    String QUERY_TEXT = "LOWER(CONCAT(j.title, ' ', COALESCE(j.description, ''), ' ', " +
+            "COALESCE(j.requirements, ''), ' ', j.company.name))";
+    
+    /**
+     * /jobs/query criteria: every search term in the text, salary within the bounds; unused term slots are null
+     */
+    String QUERY_CONDITIONS =
+            "(:term1 IS NULL OR " + QUERY_TEXT + " LIKE CONCAT('%', :term1, '%')) AND " +
+            "(:term2 IS NULL OR " + QUERY_TEXT + " LIKE CONCAT('%', :term2, '%')) AND " +
+            "(:term3 IS NULL OR " + QUERY_TEXT + " LIKE CONCAT('%', :term3, '%')) AND " +
+            "(:term4 IS NULL OR " + QUERY_TEXT + " LIKE CONCAT('%', :term4, '%')) AND " +
+            "(:term5 IS NULL OR " + QUERY_TEXT + " LIKE CONCAT('%', :term5, '%')) AND " +
+            "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
+            "(:jobType IS NULL OR j.jobType = :jobType) AND " +
+            "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
+            "(:minSalary IS NULL OR j.salaryMin >= :minSalary) AND " +
+            "(:maxSalary IS NULL OR j.salaryMax <= :maxSalary) AND " +
+            "(:isRemote IS NULL OR j.isRemote = :isRemote) AND " +
+            "(:categoryId IS NULL OR j.category.id = :categoryId) AND " +
+            "(:companyName IS NULL OR LOWER(j.company.name) LIKE LOWER(CONCAT('%', :companyName, '%')))";
+    
+    /**
+     * /jobs/query skill criterion: at least minimumMatches of the requested skills
+     */
+    String QUERY_SKILL_CONDITION =
+            " AND (SELECT COUNT(s) FROM Job j2 JOIN j2.requiredSkills s WHERE j2 = j AND s.id IN :skillIds) >= :minimumMatches";
+    
+    /**
+     * JDBC fetch size of export cursors, rows are pulled from the server in batches of this size
+     */
+    String EXPORT_FETCH_SIZE = "500";
+    
+    /**
+     * Select list of the JobSummary projection, company joined for its name and logo only
+     */
+    String SUMMARY_SELECT = "SELECT j.id AS id, j.title AS title, c.name AS companyName, c.logoUrl AS companyLogoUrl, " +
+            "j.location AS location, j.jobType AS jobType, j.experienceLevel AS experienceLevel, " +
+            "j.salaryMin AS salaryMin, j.salaryMax AS salaryMax, j.salaryType AS salaryType, " +
+            "j.isRemote AS isRemote, j.createdAt AS createdAt FROM Job j JOIN j.company c ";
+    
     // Basic queries
     Page<Job> findByIsActiveTrue(Pageable pageable);
     
@@ -33,6 +127,46 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     
     Page<Job> findByPostedById(Long userId, Pageable pageable);
     
+    // Page materialisation, to-one associations in the same select; skills are batch-fetched.
+    // Active only, an index that has not applied a deactivation yet must not surface the job
+    @EntityGraph(attributePaths = {"company", "category", "postedBy"})
+    List<Job> findByIdInAndIsActiveTrue(Collection<Long> ids);
+    
+    @Query("SELECT j.company.id, COUNT(j) FROM Job j WHERE j.isActive = true AND j.company.id IN :companyIds " +
+           "GROUP BY j.company.id")
+    List<Object[]> countActiveJobsByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
+    
+    @Query("SELECT j.category.id, COUNT(j), SUM(CASE WHEN j.isActive = true THEN 1 ELSE 0 END) FROM Job j " +
+           "WHERE j.category.id IN :categoryIds GROUP BY j.category.id")
+    List<Object[]> countJobsByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+    
+    // List projections, no entity is materialised
+    @Query(SUMMARY_SELECT + "WHERE j.isActive = true")
+    Page<JobSummary> findActiveJobSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE j.isActive = true AND c.id = :companyId")
+    Page<JobSummary> findActiveJobSummariesByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE j.isActive = true AND j.id IN :ids")
+    List<JobSummary> findActiveSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(SUMMARY_SELECT + "WHERE j.isActive = true AND " +
+           "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
+           "(:jobType IS NULL OR j.jobType = :jobType) AND " +
+           "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
+           "(:minSalary IS NULL OR j.salaryMin >= :minSalary) AND " +
+           "(:maxSalary IS NULL OR j.salaryMax <= :maxSalary) AND " +
+           "(:isRemote IS NULL OR j.isRemote = :isRemote) AND " +
+           "(:categoryId IS NULL OR j.category.id = :categoryId)")
+    Page<JobSummary> findSummariesByFilters(@Param("location") String location,
+                                            @Param("jobType") JobType jobType,
+                                            @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                            @Param("minSalary") BigDecimal minSalary,
+                                            @Param("maxSalary") BigDecimal maxSalary,
+                                            @Param("isRemote") Boolean isRemote,
+                                            @Param("categoryId") Long categoryId,
+                                            Pageable pageable);
+    
     // Filter queries
     Page<Job> findByJobTypeAndIsActiveTrue(JobType jobType, Pageable pageable);
     
@@ -51,6 +185,46 @@ public interface JobRepository extends JpaRepository<Job, Long> {
            "LOWER(j.company.name) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Job> findBySearchTerm(@Param("search") String search, Pageable pageable);
     
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
+           "(LOWER(j.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(j.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(j.company.name) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Slice<Job> findSliceBySearchTerm(@Param("search") String search, Pageable pageable);
+    
+    // PostgreSQL full-text search, expression matches idx_job_search so the GIN index is used
+    @Query(value = "SELECT j.* FROM jobs j WHERE j.is_active = true AND " +
+                   "to_tsvector('english', j.title || ' ' || j.description) @@ websearch_to_tsquery('english', :search) " +
+                   "ORDER BY ts_rank(to_tsvector('english', j.title || ' ' || j.description), " +
+                   "websearch_to_tsquery('english', :search)) DESC, j.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM jobs j WHERE j.is_active = true AND " +
+                        "to_tsvector('english', j.title || ' ' || j.description) @@ websearch_to_tsquery('english', :search)",
+           nativeQuery = true)
+    Page<Job> findByFullTextSearch(@Param("search") String search, Pageable pageable);
+    
+    @Query(value = "SELECT j.* FROM jobs j WHERE j.is_active = true AND " +
+                   "to_tsvector('english', j.title || ' ' || j.description) @@ websearch_to_tsquery('english', :search) " +
+                   "ORDER BY ts_rank(to_tsvector('english', j.title || ' ' || j.description), " +
+                   "websearch_to_tsquery('english', :search)) DESC, j.created_at DESC",
+           nativeQuery = true)
+    Slice<Job> findSliceByFullTextSearch(@Param("search") String search, Pageable pageable);
+    
+    // Typo-tolerant search with pg_trgm, the <% operator uses idx_job_title_trgm and idx_company_name_trgm
+    @Query(value = "SELECT j.* FROM jobs j JOIN companies c ON c.id = j.company_id WHERE j.is_active = true AND " +
+                   "(:search <% j.title OR :search <% c.name) " +
+                   "ORDER BY GREATEST(word_similarity(:search, j.title), word_similarity(:search, c.name)) DESC, " +
+                   "j.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM jobs j JOIN companies c ON c.id = j.company_id WHERE j.is_active = true AND " +
+                        "(:search <% j.title OR :search <% c.name)",
+           nativeQuery = true)
+    Page<Job> findByTrigramSimilarity(@Param("search") String search, Pageable pageable);
+    
+    @Query(value = "SELECT j.* FROM jobs j JOIN companies c ON c.id = j.company_id WHERE j.is_active = true AND " +
+                   "(:search <% j.title OR :search <% c.name) " +
+                   "ORDER BY GREATEST(word_similarity(:search, j.title), word_similarity(:search, c.name)) DESC, " +
+                   "j.created_at DESC",
+           nativeQuery = true)
+    Slice<Job> findSliceByTrigramSimilarity(@Param("search") String search, Pageable pageable);
+    
     // Advanced filtering
     @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
            "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
@@ -69,14 +243,290 @@ public interface JobRepository extends JpaRepository<Job, Long> {
                            @Param("categoryId") Long categoryId,
                            Pageable pageable);
     
+    // Advanced filtering inside a bounding box and optional radius (km), the box lets idx_job_geo prune rows
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " + GEO_FILTER_CONDITIONS)
+    Page<Job> findByFiltersInArea(@Param("location") String location,
+                                  @Param("jobType") JobType jobType,
+                                  @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                  @Param("minSalary") BigDecimal minSalary,
+                                  @Param("maxSalary") BigDecimal maxSalary,
+                                  @Param("overlappingSalary") boolean overlappingSalary,
+                                  @Param("isRemote") Boolean isRemote,
+                                  @Param("categoryId") Long categoryId,
+                                  @Param("minLatitude") double minLatitude,
+                                  @Param("minLongitude") double minLongitude,
+                                  @Param("maxLatitude") double maxLatitude,
+                                  @Param("maxLongitude") double maxLongitude,
+                                  @Param("centerLatitude") double centerLatitude,
+                                  @Param("centerLongitude") double centerLongitude,
+                                  @Param("radiusKm") Double radiusKm,
+                                  Pageable pageable);
+    
+    @Query(value = "SELECT j FROM Job j WHERE j.isActive = true AND " + GEO_FILTER_CONDITIONS +
+                   " ORDER BY " + DISTANCE_KM + ", j.createdAt DESC, j.id DESC",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.isActive = true AND " + GEO_FILTER_CONDITIONS)
+    Page<Job> findByFiltersInAreaOrderByDistance(@Param("location") String location,
+                                                 @Param("jobType") JobType jobType,
+                                                 @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                                 @Param("minSalary") BigDecimal minSalary,
+                                                 @Param("maxSalary") BigDecimal maxSalary,
+                                                 @Param("overlappingSalary") boolean overlappingSalary,
+                                                 @Param("isRemote") Boolean isRemote,
+                                                 @Param("categoryId") Long categoryId,
+                                                 @Param("minLatitude") double minLatitude,
+                                                 @Param("minLongitude") double minLongitude,
+                                                 @Param("maxLatitude") double maxLatitude,
+                                                 @Param("maxLongitude") double maxLongitude,
+                                                 @Param("centerLatitude") double centerLatitude,
+                                                 @Param("centerLongitude") double centerLongitude,
+                                                 @Param("radiusKm") Double radiusKm,
+                                                 Pageable pageable);
+    
+    // Advanced filtering where the yearly salary range only has to overlap [minSalary, maxSalary]
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
+           "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
+           "(:jobType IS NULL OR j.jobType = :jobType) AND " +
+           "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
+           "(:minSalary IS NULL OR COALESCE(j.salaryMax, j.salaryMin) * " + YEARLY_SALARY_FACTOR + " >= :minSalary) AND " +
+           "(:maxSalary IS NULL OR COALESCE(j.salaryMin, j.salaryMax) * " + YEARLY_SALARY_FACTOR + " <= :maxSalary) AND " +
+           "(:isRemote IS NULL OR j.isRemote = :isRemote) AND " +
+           "(:categoryId IS NULL OR j.category.id = :categoryId)")
+    Page<Job> findByFiltersWithOverlappingSalary(@Param("location") String location,
+                                                 @Param("jobType") JobType jobType,
+                                                 @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                                 @Param("minSalary") BigDecimal minSalary,
+                                                 @Param("maxSalary") BigDecimal maxSalary,
+                                                 @Param("isRemote") Boolean isRemote,
+                                                 @Param("categoryId") Long categoryId,
+                                                 Pageable pageable);
+    
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
+           "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
+           "(:jobType IS NULL OR j.jobType = :jobType) AND " +
+           "(:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) AND " +
+           "(:minSalary IS NULL OR j.salaryMin >= :minSalary) AND " +
+           "(:maxSalary IS NULL OR j.salaryMax <= :maxSalary) AND " +
+           "(:isRemote IS NULL OR j.isRemote = :isRemote) AND " +
+           "(:categoryId IS NULL OR j.category.id = :categoryId)")
+    Slice<Job> findSliceByFilters(@Param("location") String location,
+                                  @Param("jobType") JobType jobType,
+                                  @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                  @Param("minSalary") BigDecimal minSalary,
+                                  @Param("maxSalary") BigDecimal maxSalary,
+                                  @Param("isRemote") Boolean isRemote,
+                                  @Param("categoryId") Long categoryId,
+                                  Pageable pageable);
+    
+    // Combined query, SQL plan of /jobs/query; every term must occur, matching the text index's AND semantics
+    default Page<Job> findByQuery(List<String> terms, String location, JobType jobType,
+                                  ExperienceLevel experienceLevel, BigDecimal minSalary, BigDecimal maxSalary,
+                                  Boolean isRemote, Long categoryId, String companyName,
+                                  List<Long> skillIds, long minimumMatches, Pageable pageable) {
+        String[] slots = queryTermSlots(terms);
+        return minimumMatches == 0
+                ? findByQueryTerms(slots[0], slots[1], slots[2], slots[3], slots[4], location, jobType,
+                        experienceLevel, minSalary, maxSalary, isRemote, categoryId, companyName, pageable)
+                : findByQueryTermsAndSkills(slots[0], slots[1], slots[2], slots[3], slots[4], location, jobType,
+                        experienceLevel, minSalary, maxSalary, isRemote, categoryId, companyName,
+                        skillIds, minimumMatches, pageable);
+    }
+    
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " + QUERY_CONDITIONS)
+    Page<Job> findByQueryTerms(@Param("term1") String term1,
+                               @Param("term2") String term2,
+                               @Param("term3") String term3,
+                               @Param("term4") String term4,
+                               @Param("term5") String term5,
+                               @Param("location") String location,
+                               @Param("jobType") JobType jobType,
+                               @Param("experienceLevel") ExperienceLevel experienceLevel,
+                               @Param("minSalary") BigDecimal minSalary,
+                               @Param("maxSalary") BigDecimal maxSalary,
+                               @Param("isRemote") Boolean isRemote,
+                               @Param("categoryId") Long categoryId,
+                               @Param("companyName") String companyName,
+                               Pageable pageable);
+    
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " + QUERY_CONDITIONS + QUERY_SKILL_CONDITION)
+    Page<Job> findByQueryTermsAndSkills(@Param("term1") String term1,
+                                        @Param("term2") String term2,
+                                        @Param("term3") String term3,
+                                        @Param("term4") String term4,
+                                        @Param("term5") String term5,
+                                        @Param("location") String location,
+                                        @Param("jobType") JobType jobType,
+                                        @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                        @Param("minSalary") BigDecimal minSalary,
+                                        @Param("maxSalary") BigDecimal maxSalary,
+                                        @Param("isRemote") Boolean isRemote,
+                                        @Param("categoryId") Long categoryId,
+                                        @Param("companyName") String companyName,
+                                        @Param("skillIds") List<Long> skillIds,
+                                        @Param("minimumMatches") long minimumMatches,
+                                        Pageable pageable);
+    
+    // Export cursor in id order, to-one associations are fetched in the same row so the stream issues no extra queries
+    default Stream<Job> streamByQuery(List<String> terms, String location, JobType jobType,
+                                      ExperienceLevel experienceLevel, BigDecimal minSalary, BigDecimal maxSalary,
+                                      Boolean isRemote, Long categoryId, String companyName,
+                                      List<Long> skillIds, long minimumMatches) {
+        String[] slots = queryTermSlots(terms);
+        return minimumMatches == 0
+                ? streamByQueryTerms(slots[0], slots[1], slots[2], slots[3], slots[4], location, jobType,
+                        experienceLevel, minSalary, maxSalary, isRemote, categoryId, companyName)
+                : streamByQueryTermsAndSkills(slots[0], slots[1], slots[2], slots[3], slots[4], location, jobType,
+                        experienceLevel, minSalary, maxSalary, isRemote, categoryId, companyName,
+                        skillIds, minimumMatches);
+    }
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT j FROM Job j JOIN FETCH j.company LEFT JOIN FETCH j.category " +
+           "WHERE j.isActive = true AND " + QUERY_CONDITIONS + " ORDER BY j.id")
+    Stream<Job> streamByQueryTerms(@Param("term1") String term1,
+                                   @Param("term2") String term2,
+                                   @Param("term3") String term3,
+                                   @Param("term4") String term4,
+                                   @Param("term5") String term5,
+                                   @Param("location") String location,
+                                   @Param("jobType") JobType jobType,
+                                   @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                   @Param("minSalary") BigDecimal minSalary,
+                                   @Param("maxSalary") BigDecimal maxSalary,
+                                   @Param("isRemote") Boolean isRemote,
+                                   @Param("categoryId") Long categoryId,
+                                   @Param("companyName") String companyName);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT j FROM Job j JOIN FETCH j.company LEFT JOIN FETCH j.category " +
+           "WHERE j.isActive = true AND " + QUERY_CONDITIONS + QUERY_SKILL_CONDITION + " ORDER BY j.id")
+    Stream<Job> streamByQueryTermsAndSkills(@Param("term1") String term1,
+                                            @Param("term2") String term2,
+                                            @Param("term3") String term3,
+                                            @Param("term4") String term4,
+                                            @Param("term5") String term5,
+                                            @Param("location") String location,
+                                            @Param("jobType") JobType jobType,
+                                            @Param("experienceLevel") ExperienceLevel experienceLevel,
+                                            @Param("minSalary") BigDecimal minSalary,
+                                            @Param("maxSalary") BigDecimal maxSalary,
+                                            @Param("isRemote") Boolean isRemote,
+                                            @Param("categoryId") Long categoryId,
+                                            @Param("companyName") String companyName,
+                                            @Param("skillIds") List<Long> skillIds,
+                                            @Param("minimumMatches") long minimumMatches);
+    
+    /**
+     * Spreads already tokenised, lower-cased terms over the term slots of {@link #QUERY_CONDITIONS}
+     */
+    private static String[] queryTermSlots(List<String> terms) {
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("searchTerm supports at most " + MAX_QUERY_TERMS + " terms");
+        }
+        String[] slots = new String[MAX_QUERY_TERMS];
+        for (int index = 0; index < terms.size(); index++) {
+            slots[index] = terms.get(index);
+        }
+        return slots;
+    }
+    
+    // Application counters, relative so concurrent applications on the same job never lose an update
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE jobs SET " +
+                   "application_count = application_count + :totalDelta, " +
+                   "pending_application_count = pending_application_count + CASE WHEN :status = 'PENDING' THEN :delta ELSE 0 END, " +
+                   "reviewing_application_count = reviewing_application_count + CASE WHEN :status = 'REVIEWING' THEN :delta ELSE 0 END, " +
+                   "shortlisted_application_count = shortlisted_application_count + CASE WHEN :status = 'SHORTLISTED' THEN :delta ELSE 0 END, " +
+                   "interview_application_count = interview_application_count + CASE WHEN :status = 'INTERVIEW_SCHEDULED' THEN :delta ELSE 0 END, " +
+                   "rejected_application_count = rejected_application_count + CASE WHEN :status = 'REJECTED' THEN :delta ELSE 0 END, " +
+                   "accepted_application_count = accepted_application_count + CASE WHEN :status = 'ACCEPTED' THEN :delta ELSE 0 END, " +
+                   "withdrawn_application_count = withdrawn_application_count + CASE WHEN :status = 'WITHDRAWN' THEN :delta ELSE 0 END " +
+                   "WHERE id = :jobId",
+           nativeQuery = true)
+    int adjustApplicationCounts(@Param("jobId") Long jobId,
+                                @Param("status") String status,
+                                @Param("delta") int delta,
+                                @Param("totalDelta") int totalDelta);
+    
     // Skill-based search
     @Query("SELECT DISTINCT j FROM Job j JOIN j.requiredSkills s WHERE " +
            "j.isActive = true AND s.id IN :skillIds")
     Page<Job> findByRequiredSkillsIdIn(@Param("skillIds") List<Long> skillIds, Pageable pageable);
     
-    // Maintenance queries
-    @Query("SELECT j FROM Job j WHERE j.applicationDeadline < :now AND j.isActive = true")
-    List<Job> findExpiredJobs(@Param("now") LocalDateTime now);
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
+           "(SELECT COUNT(s) FROM Job j2 JOIN j2.requiredSkills s WHERE j2 = j AND s.id IN :skillIds) >= :minimumMatches")
+    Page<Job> findByRequiredSkillsMatchingAtLeast(@Param("skillIds") List<Long> skillIds,
+                                                  @Param("minimumMatches") long minimumMatches,
+                                                  Pageable pageable);
+    
+    @Query("SELECT DISTINCT j FROM Job j JOIN j.requiredSkills s WHERE " +
+           "j.isActive = true AND s.id IN :skillIds")
+    Slice<Job> findSliceByRequiredSkillsIdIn(@Param("skillIds") List<Long> skillIds, Pageable pageable);
+    
+    // Jobs still waiting for gazetteer coordinates, walked in ID order
+    @Query("SELECT j FROM Job j JOIN FETCH j.company WHERE j.id > :afterId AND j.latitude IS NULL AND " +
+           "j.location IS NOT NULL ORDER BY j.id")
+    List<Job> findJobsWithoutCoordinatesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Keyset pagination, newest first (walks idx_job_active_created, no COUNT query)
+    @Query("SELECT j FROM Job j WHERE j.isActive = true AND j.createdAt <= :createdAt AND " +
+           "(j.createdAt < :createdAt OR j.id < :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findActiveJobsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+    
+    // Edits lock the row, so a deactivation committed meanwhile is not written back by the full-entity save
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.id = :id")
+    Optional<Job> findByIdForUpdate(@Param("id") Long id);
+    
+    // Expiry queries (oldest deadline first, bounded chunks locked so concurrent edits wait for the chunk).
+    // A job is expired once its deadline is reached, every expiry query uses applicationDeadline <= :now
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.applicationDeadline <= :now AND j.isActive = true " +
+           "ORDER BY j.applicationDeadline, j.id")
+    List<Job> findExpiredJobsForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids AND j.applicationDeadline <= :now AND j.isActive = true " +
+           "ORDER BY j.id")
+    List<Job> findExpiredJobsByIdInForUpdate(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // Deadline wheel loading (keyset over ID)
+    @Query("SELECT j.id, j.applicationDeadline FROM Job j WHERE j.isActive = true AND " +
+           "j.applicationDeadline >= :from AND j.applicationDeadline < :to AND j.id > :afterId ORDER BY j.id")
+    List<Object[]> findActiveDeadlinesBetween(@Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+    
+    // Due jobs another node closed first
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids AND j.isActive = false")
+    List<Long> findInactiveIdsIn(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.isActive = false, j.updatedAt = :now WHERE j.id IN :ids AND j.isActive = true")
+    int deactivateJobs(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // Gated on the current flag, so of two concurrent identical changes only one reports an updated row
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.isActive = :active, j.updatedAt = :now WHERE j.id = :id AND j.isActive <> :active")
+    int updateActive(@Param("id") Long id, @Param("active") boolean active, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT MIN(j.applicationDeadline) FROM Job j WHERE j.applicationDeadline <= :now AND j.isActive = true")
+    LocalDateTime findOldestExpiredDeadline(@Param("now") LocalDateTime now);
+    
+    // Index maintenance queries (keyset over ID, company fetched for the index snapshot)
+    @Query("SELECT j FROM Job j JOIN FETCH j.company WHERE j.isActive = true AND j.id > :afterId ORDER BY j.id")
+    List<Job> findActiveJobsAfterId(@Param("afterId") Long afterId, Pageable pageable);
     
     // Statistics
     @Query("SELECT COUNT(j) FROM Job j WHERE j.company.id = :companyId AND j.isActive = true")
@@ -87,4 +537,8 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     
     @Query("SELECT COUNT(j) FROM Job j WHERE j.postedBy.id = :userId AND j.isActive = true")
     Long countActiveJobsByUser(@Param("userId") Long userId);
+    
+    // Planner estimate of the jobs table size, refreshed by ANALYZE/autovacuum (PostgreSQL only)
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE relname = 'jobs'", nativeQuery = true)
+    Long estimateJobRowCount();
 }
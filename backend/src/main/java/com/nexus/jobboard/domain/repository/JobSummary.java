@@ -0,0 +1,39 @@
+package com.nexus.jobboard.domain.repository;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Job list projection following ISP
+ * - Only the columns a list view renders, selected directly so no entity or association is loaded
+ */
+public interface JobSummary {
+    
+    Long getId();
+    
+    String getTitle();
+    
+    String getCompanyName();
+    
+    String getCompanyLogoUrl();
+    
+    String getLocation();
+    
+    JobType getJobType();
+    
+    ExperienceLevel getExperienceLevel();
+    
+    BigDecimal getSalaryMin();
+    
+    BigDecimal getSalaryMax();
+    
+    SalaryType getSalaryType();
+    
+    Boolean getIsRemote();
+    
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,27 @@
+package com.nexus.jobboard.domain.repository;
+
+import com.nexus.jobboard.domain.model.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Saved search repository interface following ISP
+ * - Contains only saved search specific operations
+ */
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    
+    List<SavedSearch> findByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    long countByUserId(Long userId);
+    
+    // Keyset batches for loading the percolator, skills arrive through batch fetching
+    @Query("SELECT s FROM SavedSearch s JOIN FETCH s.user " +
+           "WHERE s.isActive = true AND s.user.isActive = true AND s.id > :afterId ORDER BY s.id")
+    List<SavedSearch> findActiveSearchesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -5,10 +5,12 @@ import com.nexus.jobboard.domain.model.SkillCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,13 +47,19 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     // Skills by name list (for bulk operations)
     List<Skill> findByNameInAndIsActiveTrue(List<String> names);
     
-    // Popular skills (skills used in many jobs)
-    @Query("SELECT s FROM Skill s WHERE s.isActive = true AND SIZE(s.jobs) > :minJobCount ORDER BY SIZE(s.jobs) DESC")
+    // Popular skills (skills used in many active jobs), read from the maintained counter
+    @Query("SELECT s FROM Skill s WHERE s.isActive = true AND s.activeJobCount > :minJobCount ORDER BY s.activeJobCount DESC")
     Page<Skill> findPopularSkills(@Param("minJobCount") int minJobCount, Pageable pageable);
     
-    @Query("SELECT s FROM Skill s WHERE s.isActive = true ORDER BY SIZE(s.jobs) DESC")
+    @Query("SELECT s FROM Skill s WHERE s.isActive = true ORDER BY s.activeJobCount DESC")
     Page<Skill> findSkillsOrderByJobCount(Pageable pageable);
     
+    // Counter maintenance, relative so concurrent job writes on the same skill never lose an update
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE skills SET active_job_count = active_job_count + :delta WHERE id IN (:skillIds)",
+           nativeQuery = true)
+    int adjustActiveJobCount(@Param("skillIds") Collection<Long> skillIds, @Param("delta") int delta);
+    
     // Skills for specific job
     @Query("SELECT s FROM Skill s JOIN s.jobs j WHERE j.id = :jobId AND s.isActive = true")
     List<Skill> findByJobId(@Param("jobId") Long jobId);
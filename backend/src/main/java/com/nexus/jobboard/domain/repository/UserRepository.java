@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,6 +42,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Status queries
     Page<User> findByIsActive(Boolean isActive, Pageable pageable);
     
+    // Keyset pagination, newest first (no COUNT query)
+    @Query("SELECT u FROM User u WHERE u.createdAt <= :createdAt AND " +
+           "(u.createdAt < :createdAt OR u.id < :id) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findUsersBefore(@Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Pageable pageable);
+    
     // Search functionality
     @Query("SELECT u FROM User u WHERE " +
            "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -48,6 +58,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "u.isActive = true")
     Page<User> findBySearchTerm(@Param("search") String search, Pageable pageable);
     
+    // PostgreSQL full-text search on names, expression matches idx_user_name_search so the GIN index is used
+    @Query(value = "SELECT u.* FROM users u WHERE u.is_active = true AND " +
+                   "to_tsvector('english', u.first_name || ' ' || u.last_name) @@ websearch_to_tsquery('english', :search) " +
+                   "ORDER BY ts_rank(to_tsvector('english', u.first_name || ' ' || u.last_name), " +
+                   "websearch_to_tsquery('english', :search)) DESC, u.id",
+           countQuery = "SELECT COUNT(*) FROM users u WHERE u.is_active = true AND " +
+                        "to_tsvector('english', u.first_name || ' ' || u.last_name) @@ websearch_to_tsquery('english', :search)",
+           nativeQuery = true)
+    Page<User> findByFullTextSearch(@Param("search") String search, Pageable pageable);
+    
     // Statistics
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role AND u.isActive = true")
     Long countActiveUsersByRole(@Param("role") UserRole role);
@@ -0,0 +1,54 @@
+package com.nexus.jobboard.infrastructure.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Reads that must see the primary following SRP
+ * - For results that outlive the request, e.g. pages stored in the shared search result cache: a page
+ *   read from a lagging replica after an eviction would stay cached for the full TTL
+ * - Runs the work in its own read-only transaction that {@link ReplicaRoutingDataSource} sends to the
+ *   primary; read-only, so it does not pin the user's later reads like a write would
+ * - Without replicas, or inside a read-write transaction, the work already reads from the primary and
+ *   runs in the caller's transaction; outside any transaction repository reads would open read-only
+ *   ones, so the work gets its own transaction there too
+ */
+@Component
+public class PrimaryReadTemplate {
+    
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+    
+    private final TransactionTemplate transaction;
+    private final boolean replicasEnabled;
+    
+    public PrimaryReadTemplate(PlatformTransactionManager transactionManager,
+                               @Value("${datasource.replicas.enabled:false}") boolean replicasEnabled) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transaction.setReadOnly(true);
+        this.replicasEnabled = replicasEnabled;
+    }
+    
+    public <T> T execute(Supplier<T> work) {
+        if (!replicasEnabled || isActive() || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return work.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return transaction.execute(status -> work.get());
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+    
+    static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
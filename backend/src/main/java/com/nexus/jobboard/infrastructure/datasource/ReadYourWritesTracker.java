@@ -0,0 +1,73 @@
+package com.nexus.jobboard.infrastructure.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes stickiness per authenticated user following SRP
+ * - A committed read-write transaction pins the user's read-only transactions to the primary
+ *   for a window longer than the tolerated replica lag
+ * - Anonymous and background work has no user and is never pinned
+ * - Node-local: a user whose next request lands on another node is covered by the lag bound only
+ */
+public class ReadYourWritesTracker {
+    
+    private final long stickinessMillis;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    
+    public ReadYourWritesTracker(long stickinessMillis) {
+        this.stickinessMillis = stickinessMillis;
+    }
+    
+    /**
+     * Pins the current user once the surrounding read-write transaction commits
+     */
+    public void recordWriteOnCommit() {
+        String user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(user, System.currentTimeMillis() + stickinessMillis);
+            }
+        });
+    }
+    
+    public boolean isCurrentUserPinned() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+    
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.entrySet().removeIf(entry -> entry.getValue() < now);
+    }
+    
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,90 @@
+package com.nexus.jobboard.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica configuration following SRP
+ * - Only active with datasource.replicas.enabled, otherwise the auto-configured single pool is used
+ * - The primary pool comes from spring.datasource, one pool per replica URL, all of them picking up
+ *   spring.datasource.hikari settings
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replicas.read-your-writes-ms:10000}") long stickinessMillis) {
+        return new ReadYourWritesTracker(stickinessMillis);
+    }
+    
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+                                                             Environment environment,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             @Value("${datasource.replicas.urls:}") String[] urls,
+                                                             @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                                             @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            bindHikariSettings(environment, dataSource);
+            String name = "replica-" + (replicas.size() + 1);
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            replicas.add(new ReplicaNode(name, dataSource));
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("datasource.replicas.enabled is set but datasource.replicas.urls is empty");
+        }
+        
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindHikariSettings(environment, primary);
+        primary.setPoolName("primary");
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+    
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReadYourWritesTracker readYourWritesTracker,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${datasource.replicas.lag-query}") String lagQuery,
+                                               @Value("${datasource.replicas.max-lag-ms:5000}") long maxLagMillis) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource.getReplicas(), readYourWritesTracker,
+                lagQuery, maxLagMillis, meterRegistry);
+    }
+    
+    private static void bindHikariSettings(Environment environment, HikariDataSource dataSource) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+}
@@ -0,0 +1,64 @@
+package com.nexus.jobboard.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Measures replication lag of every replica following SRP
+ * - A replica lagging more than the bound, or not answering, stops receiving reads until it recovers
+ * - The lag query is configurable, the PostgreSQL default reports zero while the replica has
+ *   replayed everything it received, so an idle primary does not look like lag
+ * - Metric: datasource.replica.lag per replica, -1 while unreachable
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    
+    public ReplicaLagMonitor(List<ReplicaNode> replicas,
+                             ReadYourWritesTracker readYourWritesTracker,
+                             String lagQuery,
+                             long maxLagMillis,
+                             MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        replicas.forEach(replica -> Gauge.builder("datasource.replica.lag", replica, ReplicaNode::getLagMillis)
+                .description("Replication lag of the read replica, -1 while unreachable")
+                .baseUnit("milliseconds")
+                .tag("replica", replica.getName())
+                .register(meterRegistry));
+    }
+    
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms:2000}")
+    public void check() {
+        for (ReplicaNode replica : replicas) {
+            boolean wasAvailable = replica.isAvailable();
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                replica.update(result.next() ? Math.round(result.getDouble(1)) : 0L, maxLagMillis);
+            } catch (SQLException e) {
+                replica.markUnreachable();
+                log.warn("Replica {} unreachable, reads go elsewhere: {}", replica.getName(), e.getMessage());
+            }
+            if (wasAvailable != replica.isAvailable()) {
+                log.info("Replica {} is now {} (lag {}ms)", replica.getName(),
+                        replica.isAvailable() ? "serving reads" : "out of rotation", replica.getLagMillis());
+            }
+        }
+        readYourWritesTracker.purgeExpired();
+    }
+}
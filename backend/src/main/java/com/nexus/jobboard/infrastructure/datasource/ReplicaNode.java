@@ -0,0 +1,33 @@
+package com.nexus.jobboard.infrastructure.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * One read replica with the state its lag monitor last observed
+ * - Unavailable until the first successful lag check, so a new replica never serves stale reads
+ */
+@Getter
+public class ReplicaNode {
+    
+    private final String name;
+    private final DataSource dataSource;
+    private volatile long lagMillis = -1L;
+    private volatile boolean available;
+    
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+    
+    void update(long lagMillis, long maxLagMillis) {
+        this.lagMillis = lagMillis;
+        this.available = lagMillis <= maxLagMillis;
+    }
+    
+    void markUnreachable() {
+        this.lagMillis = -1L;
+        this.available = false;
+    }
+}
@@ -0,0 +1,141 @@
+package com.nexus.jobboard.infrastructure.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel of job deadlines following SRP
+ * - Level 0 has one bucket per tick, each higher level one bucket per full turn of the level below;
+ *   a deadline sits in the lowest level whose span covers it and cascades down as time approaches
+ * - Scheduling, rescheduling and cancelling are O(1), advancing costs one step per elapsed tick plus
+ *   the jobs that fall due or cascade, independent of how many jobs are waiting
+ * - Deadlines beyond the span of the top level are refused, the caller keeps them for later
+ * - Thread-safe, request threads schedule while the ticker advances
+ */
+public class DeadlineTimingWheel {
+    
+    private final long tickMillis;
+    private final int bitsPerLevel;
+    private final long mask;
+    private final long spanTicks;
+    private final List<Map<Integer, Set<Long>>> levels = new ArrayList<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // Next tick to fire, every deadline before it has been handed out
+    private long currentTick;
+    
+    public DeadlineTimingWheel(long tickMillis, int bitsPerLevel, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || bitsPerLevel <= 0 || levelCount <= 0 || (long) bitsPerLevel * levelCount >= 62) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.bitsPerLevel = bitsPerLevel;
+        this.mask = (1L << bitsPerLevel) - 1;
+        this.spanTicks = 1L << (bitsPerLevel * levelCount);
+        for (int level = 0; level < levelCount; level++) {
+            levels.add(new HashMap<>());
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+    
+    /**
+     * Schedules or moves the job's deadline, a passed deadline fires on the next advance;
+     * false when the deadline is beyond the wheel's span and nothing was scheduled
+     */
+    public synchronized boolean schedule(long jobId, long deadlineMillis) {
+        long tick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick);
+        if (tick - currentTick >= spanTicks) {
+            cancel(jobId);
+            return false;
+        }
+        cancel(jobId);
+        place(new Entry(jobId, tick));
+        return true;
+    }
+    
+    public synchronized boolean cancel(long jobId) {
+        Entry entry = entries.remove(jobId);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(jobId);
+        return true;
+    }
+    
+    /**
+     * Moves time forward to nowMillis and returns the jobs whose deadline passed, each exactly once
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<Long> due = new ArrayList<>();
+        while (currentTick <= targetTick) {
+            int slot = (int) (currentTick & mask);
+            if (slot == 0) {
+                cascade(1);
+            }
+            Set<Long> bucket = levels.get(0).remove(slot);
+            if (bucket != null) {
+                for (Long jobId : bucket) {
+                    entries.remove(jobId);
+                    due.add(jobId);
+                }
+            }
+            currentTick++;
+        }
+        return due;
+    }
+    
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Moves the bucket of the given level that starts at the current tick one level closer to firing
+     */
+    private void cascade(int level) {
+        if (level >= levels.size()) {
+            return;
+        }
+        int slot = (int) ((currentTick >>> (bitsPerLevel * level)) & mask);
+        if (slot == 0) {
+            cascade(level + 1);
+        }
+        Set<Long> bucket = levels.get(level).remove(slot);
+        if (bucket != null) {
+            for (Long jobId : bucket) {
+                place(entries.get(jobId));
+            }
+        }
+    }
+    
+    private void place(Entry entry) {
+        long delta = entry.tick - currentTick;
+        int level = 0;
+        while (level < levels.size() - 1 && delta >= 1L << (bitsPerLevel * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((entry.tick >>> (bitsPerLevel * level)) & mask);
+        entry.bucket = levels.get(level).computeIfAbsent(slot, ignored -> new LinkedHashSet<>());
+        entry.bucket.add(entry.jobId);
+        entries.put(entry.jobId, entry);
+    }
+    
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+    
+    private static final class Entry {
+        
+        private final long jobId;
+        private final long tick;
+        private Set<Long> bucket;
+        
+        Entry(long jobId, long tick) {
+            this.jobId = jobId;
+            this.tick = tick;
+        }
+    }
+}
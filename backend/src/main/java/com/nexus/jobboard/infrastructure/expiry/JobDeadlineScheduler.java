@@ -0,0 +1,169 @@
+package com.nexus.jobboard.infrastructure.expiry;
+
+import com.nexus.jobboard.application.dto.response.JobExpiryResult;
+import com.nexus.jobboard.application.service.JobService;
+import com.nexus.jobboard.domain.repository.JobRepository;
+import com.nexus.jobboard.infrastructure.search.JobChangedEvent;
+import com.nexus.jobboard.infrastructure.search.JobDocument;
+import com.nexus.jobboard.infrastructure.search.JobIndexCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Closes jobs at their application deadline following SRP
+ * - Deadlines within the horizon are kept in a node-local timing wheel, loaded on startup, topped up
+ *   as later deadlines enter the horizon and kept current by job change events
+ * - The ticker deactivates due jobs through the service, which re-checks them under a row lock, so
+ *   every node can run its own wheel; due jobs another node already closed are dropped from this
+ *   node's indexes, in case that node's broadcast has not arrived or was lost
+ * - The scheduled expiry sweep stays the safety net for missed ticks and failed deactivations
+ */
+@Component
+@Slf4j
+public class JobDeadlineScheduler {
+    
+    // Shape of the wheel: 64 buckets per level, four levels span 64^4 ticks
+    private static final int BITS_PER_LEVEL = 6;
+    private static final int LEVELS = 4;
+    
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+    private final JobIndexCoordinator jobIndexCoordinator;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final int batchSize;
+    private final DeadlineTimingWheel wheel;
+    private final Counter firedCounter;
+    // Deadlines before this instant are in the wheel, null until the first load started
+    private volatile LocalDateTime loadedUntil;
+    
+    public JobDeadlineScheduler(JobService jobService,
+                                JobRepository jobRepository,
+                                JobIndexCoordinator jobIndexCoordinator,
+                                MeterRegistry meterRegistry,
+                                @Value("${jobs.deadline-wheel.enabled:true}") boolean enabled,
+                                @Value("${jobs.deadline-wheel.tick-ms:1000}") long tickMillis,
+                                @Value("${jobs.deadline-wheel.horizon-hours:24}") long horizonHours,
+                                @Value("${search.index.batch-size:500}") int batchSize) {
+        this.jobService = jobService;
+        this.jobRepository = jobRepository;
+        this.jobIndexCoordinator = jobIndexCoordinator;
+        this.enabled = enabled;
+        this.horizon = Duration.ofHours(horizonHours);
+        this.batchSize = Math.max(batchSize, 1);
+        this.wheel = new DeadlineTimingWheel(tickMillis, BITS_PER_LEVEL, LEVELS, System.currentTimeMillis());
+        this.firedCounter = Counter.builder("jobs.deadline-wheel.fired")
+                .description("Jobs deactivated by the deadline wheel at their deadline")
+                .register(meterRegistry);
+        Gauge.builder("jobs.deadline-wheel.scheduled", wheel, DeadlineTimingWheel::size)
+                .description("Deadlines waiting in the wheel")
+                .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        // Published before loading so jobs written meanwhile are scheduled by their change events
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        loadedUntil = until;
+        int loaded = loadDeadlines(LocalDateTime.now().minus(horizon), until);
+        log.info("Deadline wheel loaded {} deadlines up to {}", loaded, until);
+    }
+    
+    /**
+     * Tops up the wheel with deadlines that entered the horizon since the last load
+     */
+    @Scheduled(fixedDelayString = "${jobs.deadline-wheel.refill-interval-ms:600000}",
+               initialDelayString = "${jobs.deadline-wheel.refill-interval-ms:600000}")
+    public void refill() {
+        LocalDateTime from = loadedUntil;
+        if (!enabled || from == null) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        loadedUntil = until;
+        int loaded = loadDeadlines(from, until);
+        log.debug("Deadline wheel topped up with {} deadlines up to {}", loaded, until);
+    }
+    
+    @Scheduled(fixedRateString = "${jobs.deadline-wheel.tick-ms:1000}")
+    public void tick() {
+        if (!enabled || loadedUntil == null) {
+            return;
+        }
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> chunk = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                JobExpiryResult result = jobService.expireJobs(chunk, now);
+                firedCounter.increment(result.getDeactivated());
+                // Closed on another node first, its change event was published there
+                jobIndexCoordinator.removeInactive(result.getAlreadyInactiveJobIds());
+            } catch (RuntimeException e) {
+                log.warn("Deadline wheel failed to close {} jobs, the expiry sweep will retry: {}",
+                        chunk.size(), e.getMessage());
+            }
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        LocalDateTime until = loadedUntil;
+        if (!enabled || until == null) {
+            return;
+        }
+        JobDocument document = event.getDocument();
+        LocalDateTime deadline = document.getApplicationDeadline();
+        if (document.isActive() && deadline != null && deadline.isBefore(until)) {
+            wheel.schedule(document.getId(), toEpochMillis(deadline));
+        } else {
+            wheel.cancel(document.getId());
+        }
+    }
+    
+    /**
+     * Schedules active deadlines in [from, until) in keyset batches, returns how many were scheduled
+     */
+    private int loadDeadlines(LocalDateTime from, LocalDateTime until) {
+        int loaded = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> batch = jobRepository.findActiveDeadlinesBetween(
+                    from, until, lastId, PageRequest.ofSize(batchSize));
+            for (Object[] row : batch) {
+                if (wheel.schedule((Long) row[0], toEpochMillis((LocalDateTime) row[1]))) {
+                    loaded++;
+                }
+            }
+            if (batch.size() < batchSize) {
+                return loaded;
+            }
+            lastId = (Long) batch.get(batch.size() - 1)[0];
+        }
+    }
+    
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,105 @@
+package com.nexus.jobboard.infrastructure.expiry;
+
+import com.nexus.jobboard.application.service.JobService;
+import com.nexus.jobboard.domain.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled expiry of jobs past their application deadline following SRP
+ * - One node per run, guarded by a Redis lease that is renewed between chunks
+ * - Each chunk is its own transaction with one UPDATE, so locks and memory stay bounded; the job
+ *   change events it publishes keep the search indexes, result cache and skill counters in step
+ * - Metrics: jobs.expiry.processed (deactivated jobs), jobs.expiry.run (run duration) and
+ *   jobs.expiry.lag (seconds the oldest passed deadline has been waiting after the last run)
+ */
+@Component
+@Slf4j
+public class JobExpiryProcessor {
+    
+    private static final String LEASE_KEY = "job-expiry:lease";
+    
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+    private final RedisLease lease;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Counter processedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    
+    public JobExpiryProcessor(JobService jobService,
+                              JobRepository jobRepository,
+                              RedisTemplate<String, String> stringRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${jobs.expiry.enabled:true}") boolean enabled,
+                              @Value("${jobs.expiry.chunk-size:500}") int chunkSize,
+                              @Value("${jobs.expiry.max-chunks-per-run:200}") int maxChunksPerRun,
+                              @Value("${jobs.expiry.lease-ttl-seconds:120}") long leaseTtlSeconds) {
+        this.jobService = jobService;
+        this.jobRepository = jobRepository;
+        this.lease = new RedisLease(stringRedisTemplate, LEASE_KEY, Duration.ofSeconds(leaseTtlSeconds));
+        this.enabled = enabled;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+        this.processedCounter = Counter.builder("jobs.expiry.processed")
+                .description("Jobs deactivated because their application deadline passed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("jobs.expiry.run")
+                .description("Duration of expiry runs that held the lease")
+                .register(meterRegistry);
+        Gauge.builder("jobs.expiry.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest passed deadline still active after the last run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${jobs.expiry.interval-ms:60000}",
+               initialDelayString = "${jobs.expiry.initial-delay-ms:30000}")
+    public void run() {
+        if (!enabled || !lease.acquire()) {
+            return;
+        }
+        
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        long processed = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int expired = jobService.processExpiredJobs(now, chunkSize);
+                processed += expired;
+                processedCounter.increment(expired);
+                if (expired < chunkSize || !lease.renew()) {
+                    break;
+                }
+            }
+            recordLag(now);
+        } catch (RuntimeException e) {
+            log.error("Job expiry run failed after {} jobs: {}", processed, e.getMessage());
+        } finally {
+            runTimer.record(Duration.ofNanos(System.nanoTime() - started));
+            lease.release();
+        }
+        
+        if (processed > 0) {
+            log.info("Job expiry run deactivated {} jobs, lag {}s", processed, lagSeconds.get());
+        }
+    }
+    
+    private void recordLag(LocalDateTime now) {
+        LocalDateTime oldest = jobRepository.findOldestExpiredDeadline(now);
+        lagSeconds.set(oldest != null ? Duration.between(oldest, now).getSeconds() : 0L);
+    }
+}
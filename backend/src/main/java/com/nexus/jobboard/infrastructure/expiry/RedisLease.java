@@ -0,0 +1,69 @@
+package com.nexus.jobboard.infrastructure.expiry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cluster-wide lease on one Redis key following SRP
+ * - Acquired with SET NX PX, so only one node holds it and a crashed holder loses it after the TTL
+ * - Renew and release compare the owner token first, a node never extends or deletes another node's lease
+ * - Redis failures count as not holding the lease, the work is skipped rather than run twice
+ */
+@Slf4j
+public class RedisLease {
+    
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+    
+    public RedisLease(RedisTemplate<String, String> redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.ttl = ttl;
+    }
+    
+    public boolean acquire() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+        } catch (RuntimeException e) {
+            log.warn("Lease {} unavailable, acquiring failed: {}", key, e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Extends the lease by a full TTL, false when it expired and may now be held by another node
+     */
+    public boolean renew() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW, List.of(key), owner, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed == 1L;
+        } catch (RuntimeException e) {
+            log.warn("Lease {} unavailable, renewing failed: {}", key, e.getMessage());
+            return false;
+        }
+    }
+    
+    public void release() {
+        try {
+            redisTemplate.execute(RELEASE, List.of(key), owner);
+        } catch (RuntimeException e) {
+            log.warn("Lease {} unavailable, releasing failed, it expires with its TTL: {}", key, e.getMessage());
+        }
+    }
+}
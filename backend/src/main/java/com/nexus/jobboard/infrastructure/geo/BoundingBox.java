@@ -0,0 +1,38 @@
+package com.nexus.jobboard.infrastructure.geo;
+
+import lombok.Value;
+
+/**
+ * Latitude/longitude rectangle, boxes crossing the antimeridian are not supported
+ */
+@Value
+public class BoundingBox {
+    
+    double minLatitude;
+    double minLongitude;
+    double maxLatitude;
+    double maxLongitude;
+    
+    /**
+     * Smallest box containing every point within radiusKm of the center
+     */
+    public static BoundingBox around(GeoPoint center, double radiusKm) {
+        double latitudeDelta = Math.toDegrees(radiusKm / GeoPoint.earthRadiusKm());
+        double cosine = Math.cos(Math.toRadians(center.getLatitude()));
+        double longitudeDelta = cosine < 1e-9 ? 180.0 : Math.min(180.0, latitudeDelta / cosine);
+        return new BoundingBox(
+                Math.max(-90.0, center.getLatitude() - latitudeDelta),
+                Math.max(-180.0, center.getLongitude() - longitudeDelta),
+                Math.min(90.0, center.getLatitude() + latitudeDelta),
+                Math.min(180.0, center.getLongitude() + longitudeDelta));
+    }
+    
+    public boolean contains(GeoPoint point) {
+        return point.getLatitude() >= minLatitude && point.getLatitude() <= maxLatitude
+                && point.getLongitude() >= minLongitude && point.getLongitude() <= maxLongitude;
+    }
+    
+    public GeoPoint center() {
+        return new GeoPoint((minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2);
+    }
+}
@@ -0,0 +1,84 @@
+package com.nexus.jobboard.infrastructure.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local place name lookup following SRP
+ * - Loads city names, aliases and coordinates from a CSV bundled with the application
+ * - Resolves free-text locations such as "Lekki, Lagos, Nigeria" without calling an external service
+ */
+@Component
+@Slf4j
+public class Gazetteer {
+    
+    private final Map<String, GeoPoint> places;
+    
+    public Gazetteer(@Value("${geo.gazetteer.location:classpath:geo/gazetteer.csv}") Resource source) {
+        this.places = Collections.unmodifiableMap(load(source));
+        log.info("Gazetteer loaded with {} place names", places.size());
+    }
+    
+    /**
+     * Coordinates of the whole location, or of its most specific comma-separated part that is known
+     */
+    public Optional<GeoPoint> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        
+        GeoPoint whole = places.get(normalize(location));
+        if (whole != null) {
+            return Optional.of(whole);
+        }
+        for (String part : location.split("[,/;]")) {
+            GeoPoint point = places.get(normalize(part));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static Map<String, GeoPoint> load(Resource source) {
+        Map<String, GeoPoint> places = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                
+                String[] columns = line.split(",", -1);
+                GeoPoint point = new GeoPoint(Double.parseDouble(columns[2]), Double.parseDouble(columns[3]));
+                places.putIfAbsent(normalize(columns[0]), point);
+                places.putIfAbsent(normalize(columns[0] + " " + columns[1]), point);
+                if (columns.length > 4 && !columns[4].isBlank()) {
+                    for (String alias : columns[4].split("\\|")) {
+                        places.putIfAbsent(normalize(alias), point);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load gazetteer from " + source, e);
+        }
+        return places;
+    }
+    
+    private static String normalize(String name) {
+        return name.trim().replaceAll("[\\s,]+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.nexus.jobboard.infrastructure.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash encoding and cell covering
+ * - A geohash interleaves longitude and latitude bits in base32, so points sharing a prefix share a cell
+ * - Covering a box picks the finest precision that stays under a cell budget
+ */
+public final class GeoHash {
+    
+    public static final int MAX_PRECISION = 9;
+    
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    
+    private GeoHash() {
+    }
+    
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLatitude = -90.0;
+        double maxLatitude = 90.0;
+        double minLongitude = -180.0;
+        double maxLongitude = 180.0;
+        
+        StringBuilder hash = new StringBuilder(precision);
+        boolean longitudeBit = true;
+        int bits = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (longitudeBit) {
+                double middle = (minLongitude + maxLongitude) / 2;
+                value = (value << 1) | (longitude >= middle ? 1 : 0);
+                if (longitude >= middle) {
+                    minLongitude = middle;
+                } else {
+                    maxLongitude = middle;
+                }
+            } else {
+                double middle = (minLatitude + maxLatitude) / 2;
+                value = (value << 1) | (latitude >= middle ? 1 : 0);
+                if (latitude >= middle) {
+                    minLatitude = middle;
+                } else {
+                    maxLatitude = middle;
+                }
+            }
+            longitudeBit = !longitudeBit;
+            
+            if (++bits == 5) {
+                hash.append(BASE32[value]);
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+    
+    /**
+     * Geohash prefixes whose cells together cover the box, at most maxCells of them
+     */
+    public static Set<String> cover(BoundingBox box, int maxCells) {
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            Set<String> cells = cover(box, precision, maxCells);
+            if (cells != null) {
+                return cells;
+            }
+        }
+        return cover(box, 1, Integer.MAX_VALUE);
+    }
+    
+    private static Set<String> cover(BoundingBox box, int precision, int maxCells) {
+        int longitudeBits = (5 * precision + 1) / 2;
+        int latitudeBits = 5 * precision / 2;
+        double cellWidth = 360.0 / (1L << longitudeBits);
+        double cellHeight = 180.0 / (1L << latitudeBits);
+        
+        long firstColumn = (long) Math.floor((box.getMinLongitude() + 180.0) / cellWidth);
+        long lastColumn = (long) Math.floor((Math.min(box.getMaxLongitude(), 179.999999) + 180.0) / cellWidth);
+        long firstRow = (long) Math.floor((box.getMinLatitude() + 90.0) / cellHeight);
+        long lastRow = (long) Math.floor((Math.min(box.getMaxLatitude(), 89.999999) + 90.0) / cellHeight);
+        if ((lastColumn - firstColumn + 1) * (lastRow - firstRow + 1) > maxCells) {
+            return null;
+        }
+        
+        Set<String> cells = new LinkedHashSet<>();
+        for (long row = firstRow; row <= lastRow; row++) {
+            for (long column = firstColumn; column <= lastColumn; column++) {
+                cells.add(encode(-90.0 + (row + 0.5) * cellHeight, -180.0 + (column + 0.5) * cellWidth, precision));
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,31 @@
+package com.nexus.jobboard.infrastructure.geo;
+
+import lombok.Value;
+
+/**
+ * A position on the earth in decimal degrees
+ */
+@Value
+public class GeoPoint {
+    
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    
+    double latitude;
+    double longitude;
+    
+    /**
+     * Great-circle distance using the haversine formula
+     */
+    public double distanceKm(GeoPoint other) {
+        double latitudeDelta = Math.toRadians(other.latitude - latitude);
+        double longitudeDelta = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+    
+    public static double earthRadiusKm() {
+        return EARTH_RADIUS_KM;
+    }
+}
@@ -0,0 +1,101 @@
+package com.nexus.jobboard.infrastructure.geo;
+
+import com.nexus.jobboard.domain.model.Company;
+import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.repository.CompanyRepository;
+import com.nexus.jobboard.domain.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Geocodes rows written before coordinates existed following SRP
+ * - Runs once on startup, before the in-memory indexes are loaded, in keyset batches
+ * - Locations the gazetteer does not know are left without coordinates
+ */
+@Component
+@Slf4j
+public class GeocodingBackfill {
+    
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final Gazetteer gazetteer;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int batchSize;
+    
+    public GeocodingBackfill(JobRepository jobRepository,
+                             CompanyRepository companyRepository,
+                             Gazetteer gazetteer,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${geo.backfill.enabled:true}") boolean enabled,
+                             @Value("${search.index.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.companyRepository = companyRepository;
+        this.gazetteer = gazetteer;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        
+        Integer companies = transaction.execute(status -> geocodeCompanies());
+        long jobs = 0;
+        long lastId = 0L;
+        while (true) {
+            final long afterId = lastId;
+            long[] batch = transaction.execute(status -> geocodeJobs(afterId));
+            if (batch == null || batch[1] == 0) {
+                break;
+            }
+            jobs += batch[0];
+            lastId = batch[2];
+        }
+        log.info("Geocoding backfill resolved {} companies and {} jobs", companies, jobs);
+    }
+    
+    private int geocodeCompanies() {
+        int resolved = 0;
+        for (Company company : companyRepository.findByLatitudeIsNullAndLocationIsNotNull()) {
+            GeoPoint point = gazetteer.resolve(company.getLocation()).orElse(null);
+            if (point != null) {
+                company.setLatitude(point.getLatitude());
+                company.setLongitude(point.getLongitude());
+                resolved++;
+            }
+        }
+        return resolved;
+    }
+    
+    /**
+     * One batch after the given ID, returns {resolved, scanned, last scanned ID}
+     */
+    private long[] geocodeJobs(long afterId) {
+        List<Job> batch = jobRepository.findJobsWithoutCoordinatesAfterId(afterId, PageRequest.ofSize(batchSize));
+        long resolved = 0;
+        for (Job job : batch) {
+            GeoPoint point = gazetteer.resolve(job.getLocation()).orElse(null);
+            if (point != null) {
+                job.setLatitude(point.getLatitude());
+                job.setLongitude(point.getLongitude());
+                resolved++;
+            }
+        }
+        return new long[]{resolved, batch.size(), batch.isEmpty() ? afterId : batch.get(batch.size() - 1).getId()};
+    }
+}
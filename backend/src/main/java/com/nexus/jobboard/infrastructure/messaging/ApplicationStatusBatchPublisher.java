@@ -0,0 +1,92 @@
+package com.nexus.jobboard.infrastructure.messaging;
+
+import com.nexus.jobboard.application.dto.message.JobApplicationBatchMessage;
+import com.nexus.jobboard.application.service.NotificationService;
+import com.nexus.jobboard.domain.model.User;
+import com.nexus.jobboard.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fans a bulk status change out to the applicants following SRP
+ * - Runs after the update committed, one batch message per chunk of applications instead of one
+ *   message per application
+ * - Applicant names and emails are loaded per chunk, a failed chunk does not stop the others
+ */
+@Component
+@Slf4j
+public class ApplicationStatusBatchPublisher {
+    
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final int batchSize;
+    
+    public ApplicationStatusBatchPublisher(UserRepository userRepository,
+                                           NotificationService notificationService,
+                                           @Value("${notification.bulk-status.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkStatusChanged(ApplicationStatusBulkChangedEvent event) {
+        List<ApplicationStatusBulkChangedEvent.Change> changes = event.getChanges();
+        int published = 0;
+        for (int from = 0; from < changes.size(); from += batchSize) {
+            List<ApplicationStatusBulkChangedEvent.Change> chunk =
+                    changes.subList(from, Math.min(from + batchSize, changes.size()));
+            try {
+                notificationService.sendApplicationStatusUpdates(toBatch(event, chunk));
+                published++;
+            } catch (RuntimeException e) {
+                log.warn("Publishing bulk status notifications for job {} failed for {} applications: {}",
+                        event.getJobId(), chunk.size(), e.getMessage());
+            }
+        }
+        log.info("Published {} status notification batches for {} applications of job: {}",
+                published, changes.size(), event.getJobId());
+    }
+    
+    private JobApplicationBatchMessage toBatch(ApplicationStatusBulkChangedEvent event,
+                                               List<ApplicationStatusBulkChangedEvent.Change> chunk) {
+        Map<Long, User> applicants = userRepository.findAllById(chunk.stream()
+                        .map(ApplicationStatusBulkChangedEvent.Change::getApplicantId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        
+        List<JobApplicationBatchMessage.Recipient> recipients = chunk.stream()
+                .filter(change -> applicants.containsKey(change.getApplicantId()))
+                .map(change -> {
+                    User applicant = applicants.get(change.getApplicantId());
+                    return JobApplicationBatchMessage.Recipient.builder()
+                            .applicationId(change.getApplicationId())
+                            .applicantId(applicant.getId())
+                            .applicantName(applicant.getFullName())
+                            .applicantEmail(applicant.getEmail())
+                            .previousStatus(change.getPreviousStatus())
+                            .build();
+                })
+                .collect(Collectors.toList());
+        
+        return JobApplicationBatchMessage.builder()
+                .jobId(event.getJobId())
+                .employerId(event.getEmployerId())
+                .jobTitle(event.getJobTitle())
+                .companyName(event.getCompanyName())
+                .status(event.getStatus())
+                .notes(event.getNotes())
+                .eventType(event.getEventType())
+                .eventTime(event.getEventTime())
+                .recipients(recipients)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.nexus.jobboard.infrastructure.messaging;
+
+import com.nexus.jobboard.application.dto.message.JobApplicationMessage;
+import com.nexus.jobboard.domain.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application event published when a bulk update moved a job's open applications to one status
+ * - Consumed after commit, so notifications never go out for a rolled back update
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationStatusBulkChangedEvent {
+    
+    private final Long jobId;
+    private final Long employerId;
+    private final String jobTitle;
+    private final String companyName;
+    private final ApplicationStatus status;
+    private final String notes;
+    private final JobApplicationMessage.JobApplicationEventType eventType;
+    private final LocalDateTime eventTime;
+    private final List<Change> changes;
+    
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+        
+        private final Long applicationId;
+        private final Long applicantId;
+        private final ApplicationStatus previousStatus;
+    }
+}
@@ -1,5 +1,6 @@
 package com.nexus.jobboard.infrastructure.messaging;
 
+import com.nexus.jobboard.application.dto.message.JobApplicationBatchMessage;
 import com.nexus.jobboard.application.dto.message.JobApplicationMessage;
 import com.nexus.jobboard.application.service.NotificationService;
 import com.nexus.jobboard.domain.repository.UserRepository;
@@ -54,6 +55,25 @@ public class JobApplicationMessageConsumer {
         }
     }
     
+    @RabbitListener(queues = RabbitMQConfig.APPLICATION_BATCH_QUEUE)
+    public void processJobApplicationBatchMessage(JobApplicationBatchMessage batch) {
+        log.info("Processing batch of {} application status updates for job: {}", 
+                batch.getRecipients().size(), batch.getJobTitle());
+        
+        int failed = 0;
+        for (JobApplicationMessage message : batch.toMessages()) {
+            try {
+                handleApplicationStatusUpdate(message);
+            } catch (Exception e) {
+                failed++;
+                log.error("Failed to process status update for application {}: {}", 
+                        message.getApplicationId(), e.getMessage());
+            }
+        }
+        
+        log.info("Application status batch processed, {} failed", failed);
+    }
+    
     private void handleApplicationSubmitted(JobApplicationMessage message) {
         log.info("Handling application submitted for job: {}", message.getJobTitle());
         
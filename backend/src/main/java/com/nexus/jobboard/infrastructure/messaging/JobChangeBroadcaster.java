@@ -0,0 +1,60 @@
+package com.nexus.jobboard.infrastructure.messaging;
+
+import com.nexus.jobboard.infrastructure.search.JobChangedEvent;
+import com.nexus.jobboard.infrastructure.search.JobIndexCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps the node-local job indexes of every node in sync following SRP
+ * - Publishes each committed job change to a fanout exchange, every node consumes it through its own queue
+ * - Changes published by this node are skipped on receipt, they were applied locally after commit
+ * - One consumer per node, so changes are applied in the order this node received them
+ */
+@Component
+@Slf4j
+public class JobChangeBroadcaster {
+    
+    private final RabbitTemplate rabbitTemplate;
+    private final JobIndexCoordinator jobIndexCoordinator;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    public JobChangeBroadcaster(RabbitTemplate rabbitTemplate,
+                                JobIndexCoordinator jobIndexCoordinator,
+                                @Value("${search.index.enabled:true}") boolean enabled) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.jobIndexCoordinator = jobIndexCoordinator;
+        this.enabled = enabled;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.JOB_CHANGES_EXCHANGE, "",
+                    JobChangedMessage.from(event, nodeId));
+        } catch (RuntimeException e) {
+            log.warn("Broadcasting {} for job {} failed, other nodes keep their indexes until restart: {}",
+                    event.getChangeType(), event.getJobId(), e.getMessage());
+        }
+    }
+    
+    @RabbitListener(queues = "#{jobChangesQueue.name}", concurrency = "1")
+    public void onRemoteJobChanged(JobChangedMessage message) {
+        if (nodeId.equals(message.getOriginNodeId()) || message.getDocument() == null) {
+            return;
+        }
+        log.debug("Applying {} for job {} from node {}",
+                message.getChangeType(), message.getDocument().getId(), message.getOriginNodeId());
+        jobIndexCoordinator.onRemoteJobChanged(message.toEvent());
+    }
+}
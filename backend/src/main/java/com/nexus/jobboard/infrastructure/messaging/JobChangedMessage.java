@@ -0,0 +1,37 @@
+package com.nexus.jobboard.infrastructure.messaging;
+
+import com.nexus.jobboard.infrastructure.search.JobChangedEvent;
+import com.nexus.jobboard.infrastructure.search.JobDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job change broadcast to every node following SRP
+ * - Single responsibility: Carry a committed {@link JobChangedEvent} and the node it was committed on
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChangedMessage {
+    
+    private String originNodeId;
+    private JobChangedEvent.ChangeType changeType;
+    private JobDocument document;
+    private JobDocument previousDocument;
+    
+    public static JobChangedMessage from(JobChangedEvent event, String originNodeId) {
+        return JobChangedMessage.builder()
+                .originNodeId(originNodeId)
+                .changeType(event.getChangeType())
+                .document(event.getDocument())
+                .previousDocument(event.getPreviousDocument())
+                .build();
+    }
+    
+    public JobChangedEvent toEvent() {
+        return new JobChangedEvent(document, changeType, previousDocument);
+    }
+}
@@ -21,15 +21,18 @@ public class RabbitMQConfig {
     public static final String NOTIFICATION_QUEUE = "notification.queue";
     public static final String JOB_RECOMMENDATION_QUEUE = "job.recommendation.queue";
     public static final String APPLICATION_PROCESSING_QUEUE = "application.processing.queue";
+    public static final String APPLICATION_BATCH_QUEUE = "application.batch.queue";
     
     // Exchange names
     public static final String NOTIFICATION_EXCHANGE = "notification.exchange";
     public static final String JOB_EXCHANGE = "job.exchange";
+    public static final String JOB_CHANGES_EXCHANGE = "job.changes.exchange";
     
     // Routing keys
     public static final String EMAIL_ROUTING_KEY = "notification.email";
     public static final String SMS_ROUTING_KEY = "notification.sms";
     public static final String JOB_APPLICATION_ROUTING_KEY = "job.application";
+    public static final String JOB_APPLICATION_BATCH_ROUTING_KEY = "job.application.batch";
     public static final String JOB_RECOMMENDATION_ROUTING_KEY = "job.recommendation";
     
     // Exchanges
@@ -43,6 +46,12 @@ public class RabbitMQConfig {
         return new TopicExchange(JOB_EXCHANGE);
     }
     
+    // Every node gets every job change, each through its own queue
+    @Bean
+    public FanoutExchange jobChangesExchange() {
+        return new FanoutExchange(JOB_CHANGES_EXCHANGE);
+    }
+    
     // Queues
     @Bean
     public Queue emailQueue() {
@@ -64,6 +73,17 @@ public class RabbitMQConfig {
         return QueueBuilder.durable(APPLICATION_PROCESSING_QUEUE).build();
     }
     
+    @Bean
+    public Queue applicationBatchQueue() {
+        return QueueBuilder.durable(APPLICATION_BATCH_QUEUE).build();
+    }
+    
+    // Node-local indexes are rebuilt on startup, so the queue lives and dies with the node
+    @Bean
+    public Queue jobChangesQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("job.changes."));
+    }
+    
     // Bindings
     @Bean
     public Binding emailBinding() {
@@ -97,6 +117,21 @@ public class RabbitMQConfig {
                 .with(JOB_APPLICATION_ROUTING_KEY);
     }
     
+    @Bean
+    public Binding applicationBatchBinding() {
+        return BindingBuilder
+                .bind(applicationBatchQueue())
+                .to(jobExchange())
+                .with(JOB_APPLICATION_BATCH_ROUTING_KEY);
+    }
+    
+    @Bean
+    public Binding jobChangesBinding() {
+        return BindingBuilder
+                .bind(jobChangesQueue())
+                .to(jobChangesExchange());
+    }
+    
     // Message converter
     @Bean
     public MessageConverter jsonMessageConverter() {
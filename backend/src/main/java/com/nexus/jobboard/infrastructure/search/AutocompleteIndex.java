@@ -0,0 +1,166 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.Skill;
+import com.nexus.jobboard.domain.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Node-local type-ahead index following SRP
+ * - One {@link SuggestionTrie} per {@link SuggestionType}, weighted by the number of active jobs
+ * - Job changes only mark the tries stale, a background refresh rebuilds them off the request path
+ * - Readers always see a complete set of tries because the whole map is swapped in one write
+ */
+@Component
+@Slf4j
+public class AutocompleteIndex implements JobIndex {
+    
+    /**
+     * Longest run of consecutive title words offered as a suggestion
+     */
+    private static final int MAX_TITLE_NGRAM = 3;
+    
+    private final SkillRepository skillRepository;
+    private final int suggestionsPerNode;
+    
+    private final Map<Long, JobDocument> documents = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+    
+    private volatile Map<SuggestionType, SuggestionTrie> tries = Collections.emptyMap();
+    
+    public AutocompleteIndex(SkillRepository skillRepository,
+                             @Value("${search.autocomplete.max-suggestions:10}") int suggestionsPerNode) {
+        this.skillRepository = skillRepository;
+        this.suggestionsPerNode = suggestionsPerNode;
+    }
+    
+    @Override
+    public void rebuild(Collection<JobDocument> activeDocuments) {
+        documents.clear();
+        for (JobDocument document : activeDocuments) {
+            if (document.isActive()) {
+                documents.put(document.getId(), document);
+            }
+        }
+        stale.set(false);
+        rebuildTries();
+    }
+    
+    @Override
+    public void index(JobDocument document) {
+        documents.put(document.getId(), document);
+        stale.set(true);
+    }
+    
+    @Override
+    public void remove(Long jobId) {
+        if (documents.remove(jobId) != null) {
+            stale.set(true);
+        }
+    }
+    
+    /**
+     * Rebuild the tries in the background when jobs changed since the last build
+     */
+    @Scheduled(fixedDelayString = "${search.autocomplete.refresh-interval-ms:30000}")
+    public void refreshIfStale() {
+        if (isReady() && stale.getAndSet(false)) {
+            rebuildTries();
+        }
+    }
+    
+    public boolean isReady() {
+        return !tries.isEmpty();
+    }
+    
+    public int getMaxSuggestions() {
+        return suggestionsPerNode;
+    }
+    
+    /**
+     * Best suggestions for the prefix across the requested types, highest weight first
+     */
+    public List<AutocompleteSuggestion> suggest(String prefix, Set<SuggestionType> types, int limit) {
+        Map<SuggestionType, SuggestionTrie> current = tries;
+        List<AutocompleteSuggestion> suggestions = new ArrayList<>();
+        for (SuggestionType type : types) {
+            SuggestionTrie trie = current.get(type);
+            if (trie != null) {
+                suggestions.addAll(trie.suggest(prefix, limit));
+            }
+        }
+        
+        suggestions.sort(Comparator.comparingLong(AutocompleteSuggestion::getWeight).reversed()
+                .thenComparing(AutocompleteSuggestion::getText));
+        return suggestions.size() > limit ? new ArrayList<>(suggestions.subList(0, limit)) : suggestions;
+    }
+    
+    private synchronized void rebuildTries() {
+        long started = System.currentTimeMillis();
+        Map<Long, String> skillNames = new HashMap<>();
+        for (Skill skill : skillRepository.findByIsActiveTrueOrderByName()) {
+            skillNames.put(skill.getId(), skill.getName());
+        }
+        
+        SuggestionTrie.Builder titles = SuggestionTrie.builder(SuggestionType.JOB_TITLE);
+        SuggestionTrie.Builder skills = SuggestionTrie.builder(SuggestionType.SKILL);
+        SuggestionTrie.Builder companies = SuggestionTrie.builder(SuggestionType.COMPANY);
+        SuggestionTrie.Builder locations = SuggestionTrie.builder(SuggestionType.LOCATION);
+        
+        // Skills nobody asks for yet are still suggested, just below the ones in demand
+        skillNames.values().forEach(name -> skills.add(name, 0));
+        
+        for (JobDocument document : documents.values()) {
+            titleNgrams(document.getTitle()).forEach(ngram -> titles.add(ngram, 1));
+            for (Long skillId : document.getSkillIds()) {
+                String name = skillNames.get(skillId);
+                if (name != null) {
+                    skills.add(name, 1);
+                }
+            }
+            companies.add(document.getCompanyName(), 1);
+            locations.add(document.getLocation(), 1);
+        }
+        
+        Map<SuggestionType, SuggestionTrie> rebuilt = new EnumMap<>(SuggestionType.class);
+        rebuilt.put(SuggestionType.JOB_TITLE, titles.build(suggestionsPerNode));
+        rebuilt.put(SuggestionType.SKILL, skills.build(suggestionsPerNode));
+        rebuilt.put(SuggestionType.COMPANY, companies.build(suggestionsPerNode));
+        rebuilt.put(SuggestionType.LOCATION, locations.build(suggestionsPerNode));
+        tries = Collections.unmodifiableMap(rebuilt);
+        
+        log.info("Autocomplete rebuilt from {} jobs in {} ms ({} titles, {} skills, {} companies, {} locations)",
+                documents.size(), System.currentTimeMillis() - started,
+                rebuilt.get(SuggestionType.JOB_TITLE).size(), rebuilt.get(SuggestionType.SKILL).size(),
+                rebuilt.get(SuggestionType.COMPANY).size(), rebuilt.get(SuggestionType.LOCATION).size());
+    }
+    
+    /**
+     * Distinct runs of one to three consecutive title words, so "java" and "java developer" both complete
+     */
+    private static Set<String> titleNgrams(String title) {
+        if (title == null || title.isBlank()) {
+            return Collections.emptySet();
+        }
+        
+        String[] words = title.trim().split("\\s+");
+        Set<String> ngrams = new LinkedHashSet<>();
+        for (int start = 0; start < words.length; start++) {
+            StringBuilder ngram = new StringBuilder();
+            for (int length = 1; length <= MAX_TITLE_NGRAM && start + length <= words.length; length++) {
+                if (length > 1) {
+                    ngram.append(' ');
+                }
+                ngram.append(words[start + length - 1]);
+                ngrams.add(ngram.toString());
+            }
+        }
+        return ngrams;
+    }
+}
@@ -0,0 +1,14 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Value;
+
+/**
+ * One type-ahead suggestion, weight is the number of active jobs behind it
+ */
+@Value
+public class AutocompleteSuggestion {
+    
+    String text;
+    SuggestionType type;
+    long weight;
+}
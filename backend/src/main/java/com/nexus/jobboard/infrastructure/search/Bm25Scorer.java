@@ -0,0 +1,60 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * BM25F relevance scorer following SRP
+ * - Normalises term frequency per field by that field's length, applies the field boost,
+ *   then saturates the combined frequency once with k1
+ */
+@Component
+public class Bm25Scorer {
+    
+    private final double k1;
+    private final double b;
+    private final double[] boosts = new double[SearchField.values().length];
+    
+    public Bm25Scorer(@Value("${search.bm25.k1:1.2}") double k1,
+                      @Value("${search.bm25.b:0.75}") double b,
+                      @Value("${search.bm25.boost.title:3.0}") double titleBoost,
+                      @Value("${search.bm25.boost.description:1.0}") double descriptionBoost,
+                      @Value("${search.bm25.boost.requirements:0.5}") double requirementsBoost,
+                      @Value("${search.bm25.boost.company-name:2.0}") double companyNameBoost) {
+        this.k1 = k1;
+        this.b = b;
+        boosts[SearchField.TITLE.ordinal()] = titleBoost;
+        boosts[SearchField.DESCRIPTION.ordinal()] = descriptionBoost;
+        boosts[SearchField.REQUIREMENTS.ordinal()] = requirementsBoost;
+        boosts[SearchField.COMPANY_NAME.ordinal()] = companyNameBoost;
+    }
+    
+    /**
+     * Inverse document frequency, always positive so common terms never subtract
+     */
+    public double idf(int documentCount, int documentFrequency) {
+        return Math.log(1.0 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+    
+    /**
+     * Score one term for one document
+     * 
+     * @param termFrequencies     occurrences of the term per {@link SearchField}
+     * @param fieldLengths        token count per field for the document
+     * @param averageFieldLengths average token count per field across the index
+     */
+    public double score(double idf, int[] termFrequencies, int[] fieldLengths, double[] averageFieldLengths) {
+        double weightedFrequency = 0.0;
+        for (int field = 0; field < termFrequencies.length; field++) {
+            if (termFrequencies[field] == 0) {
+                continue;
+            }
+            double relativeLength = averageFieldLengths[field] > 0
+                    ? fieldLengths[field] / averageFieldLengths[field]
+                    : 1.0;
+            double normalisation = 1.0 - b + b * relativeLength;
+            weightedFrequency += boosts[field] * termFrequencies[field] / normalisation;
+        }
+        return idf * weightedFrequency * (k1 + 1.0) / (k1 + weightedFrequency);
+    }
+}
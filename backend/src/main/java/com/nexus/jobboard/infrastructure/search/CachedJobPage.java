@@ -0,0 +1,29 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * One cached result page: the ordered job IDs and the total hit count
+ * - Rows are re-read by primary key on a hit, so job content and application counts are never stale
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedJobPage {
+    
+    private List<Long> jobIds;
+    private long totalElements;
+    
+    public static CachedJobPage of(Page<Job> page) {
+        return new CachedJobPage(
+                page.getContent().stream().map(Job::getId).collect(Collectors.toList()),
+                page.getTotalElements());
+    }
+}
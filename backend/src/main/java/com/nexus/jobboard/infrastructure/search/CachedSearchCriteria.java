@@ -0,0 +1,133 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalised search criteria shared by every cached page of one query
+ * - Normalisation only lower-cases text, the database compares case-insensitively, so
+ *   equivalent requests share one family while the query semantics stay untouched
+ * - Stored in the Redis registry, so it stays a plain Jackson bean
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedSearchCriteria {
+    
+    public enum Mode {
+        SEARCH_TERM,
+        FULL_TEXT,
+        FILTER_WITHIN,
+        FILTER_OVERLAPS
+    }
+    
+    /**
+     * Full-text tokens are stemmed by PostgreSQL, a word and its stem share at least this prefix
+     */
+    private static final int STEM_PREFIX_LENGTH = 3;
+    
+    private Mode mode;
+    private String searchTerm;
+    private String location;
+    private JobType jobType;
+    private ExperienceLevel experienceLevel;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private Boolean isRemote;
+    private Long categoryId;
+    
+    public static CachedSearchCriteria of(JobSearchRequest request, Mode mode) {
+        return new CachedSearchCriteria(
+                mode,
+                lowerCase(request.getSearchTerm()),
+                lowerCase(request.getLocation()),
+                request.getJobType(),
+                request.getExperienceLevel(),
+                request.getMinSalary() != null ? request.getMinSalary().stripTrailingZeros() : null,
+                request.getMaxSalary() != null ? request.getMaxSalary().stripTrailingZeros() : null,
+                request.getIsRemote(),
+                request.getCategoryId());
+    }
+    
+    /**
+     * Stable identifier of the query family, paging is not part of it
+     */
+    public String familyKey() {
+        String canonical = String.join("|", List.of(
+                String.valueOf(mode),
+                part(searchTerm),
+                part(location),
+                part(jobType),
+                part(experienceLevel),
+                part(minSalary != null ? minSalary.toPlainString() : null),
+                part(maxSalary != null ? maxSalary.toPlainString() : null),
+                part(isRemote),
+                part(categoryId)));
+        return DigestUtils.md5DigestAsHex(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Conservative check used for invalidation: false only when the job cannot be in the results.
+     * Overlapping salary ranges and stemmed full-text terms are deliberately over-approximated.
+     */
+    public boolean couldMatch(JobDocument document) {
+        if (jobType != null && jobType != document.getJobType()) {
+            return false;
+        }
+        if (experienceLevel != null && experienceLevel != document.getExperienceLevel()) {
+            return false;
+        }
+        if (categoryId != null && !categoryId.equals(document.getCategoryId())) {
+            return false;
+        }
+        if (isRemote != null && isRemote != document.isRemote()) {
+            return false;
+        }
+        if (location != null && !contains(document.getLocation(), location)) {
+            return false;
+        }
+        if (mode == Mode.FILTER_WITHIN) {
+            if (minSalary != null && (document.getSalaryMin() == null || document.getSalaryMin().compareTo(minSalary) < 0)) {
+                return false;
+            }
+            if (maxSalary != null && (document.getSalaryMax() == null || document.getSalaryMax().compareTo(maxSalary) > 0)) {
+                return false;
+            }
+        }
+        if (mode == Mode.SEARCH_TERM) {
+            return contains(document.getTitle(), searchTerm)
+                    || contains(document.getDescription(), searchTerm)
+                    || contains(document.getCompanyName(), searchTerm);
+        }
+        if (mode == Mode.FULL_TEXT) {
+            String text = lowerCase(document.getTitle() + " " + document.getDescription());
+            return SearchTokenizer.tokenize(searchTerm).stream()
+                    .anyMatch(token -> text.contains(token.length() > STEM_PREFIX_LENGTH
+                            ? token.substring(0, STEM_PREFIX_LENGTH)
+                            : token));
+        }
+        return true;
+    }
+    
+    private static boolean contains(String value, String lowerCaseFragment) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseFragment);
+    }
+    
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+    
+    private static String part(Object value) {
+        return value != null ? "=" + value : "-";
+    }
+}
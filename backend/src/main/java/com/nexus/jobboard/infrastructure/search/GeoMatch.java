@@ -0,0 +1,17 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A job found through the geo index, distanceKm is null when the query had no center
+ * - createdAt orders equally distant matches, pooled sequence IDs are not in creation order
+ */
+@Value
+public class GeoMatch {
+    
+    Long jobId;
+    Double distanceKm;
+    LocalDateTime createdAt;
+}
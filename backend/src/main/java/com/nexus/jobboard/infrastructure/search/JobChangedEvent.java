@@ -0,0 +1,33 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Application event published on every job write
+ * - Consumed after commit to keep the node-local indexes and the search result cache in sync
+ */
+@Getter
+@AllArgsConstructor
+public class JobChangedEvent {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        ACTIVATED,
+        DEACTIVATED
+    }
+    
+    private final JobDocument document;
+    private final ChangeType changeType;
+    // State before an update, null when the change did not touch searchable fields
+    private final JobDocument previousDocument;
+    
+    public JobChangedEvent(JobDocument document, ChangeType changeType) {
+        this(document, changeType, null);
+    }
+    
+    public Long getJobId() {
+        return document.getId();
+    }
+}
@@ -0,0 +1,74 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryType;
+import com.nexus.jobboard.domain.model.Skill;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of a job used by the in-memory indexes
+ * - Built inside the transaction so index updates never touch lazy associations
+ * - Serialisable to JSON, job changes are broadcast to the other nodes as documents
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class JobDocument {
+    
+    Long id;
+    String title;
+    String description;
+    String requirements;
+    String companyName;
+    JobType jobType;
+    ExperienceLevel experienceLevel;
+    String location;
+    Double latitude;
+    Double longitude;
+    BigDecimal salaryMin;
+    BigDecimal salaryMax;
+    SalaryType salaryType;
+    Long categoryId;
+    @Builder.Default
+    List<Long> skillIds = Collections.emptyList();
+    boolean remote;
+    boolean active;
+    LocalDateTime applicationDeadline;
+    LocalDateTime createdAt;
+    
+    public static JobDocument from(Job job) {
+        return JobDocument.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .requirements(job.getRequirements())
+                .companyName(job.getCompany() != null ? job.getCompany().getName() : null)
+                .jobType(job.getJobType())
+                .experienceLevel(job.getExperienceLevel())
+                .location(job.getLocation())
+                .latitude(job.getLatitude())
+                .longitude(job.getLongitude())
+                .salaryMin(job.getSalaryMin())
+                .salaryMax(job.getSalaryMax())
+                .salaryType(job.getSalaryType())
+                .categoryId(job.getCategory() != null ? job.getCategory().getId() : null)
+                .skillIds(job.getRequiredSkills() != null
+                        ? job.getRequiredSkills().stream().map(Skill::getId).collect(Collectors.toList())
+                        : Collections.emptyList())
+                .remote(Boolean.TRUE.equals(job.getIsRemote()))
+                .active(Boolean.TRUE.equals(job.getIsActive()))
+                .applicationDeadline(job.getApplicationDeadline())
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+}
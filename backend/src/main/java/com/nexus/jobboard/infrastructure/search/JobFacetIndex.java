@@ -0,0 +1,397 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryBand;
+import com.nexus.jobboard.domain.model.SalaryType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Node-local compressed bitmap index over active jobs following SRP
+ * - Each attribute value keeps a {@link JobIdBitmap} of the active jobs carrying it
+ * - Only active jobs are indexed, so the active bitmap is the universe every filter starts from
+ * - Facet counts for a filter are a handful of bitmap intersections instead of one query per value
+ * - Answers the full filter, company name and salary type included, for /jobs/filter and the query planner
+ */
+@Component
+@Slf4j
+public class JobFacetIndex implements JobIndex {
+    
+    /**
+     * Pooled sequence IDs are handed out in blocks per node, so only createdAt gives creation order
+     */
+    private static final Comparator<JobDocument> NEWEST_FIRST = Comparator
+            .comparing(JobDocument::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(JobDocument::getId, Comparator.reverseOrder());
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private FacetState state = new FacetState();
+    private volatile boolean ready = false;
+    
+    @Override
+    public void rebuild(Collection<JobDocument> activeDocuments) {
+        FacetState newState = new FacetState();
+        for (JobDocument document : activeDocuments) {
+            newState.add(document);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job facet index rebuilt with {} jobs", newState.documents.size());
+    }
+    
+    @Override
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            state.remove(document.getId());
+            state.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Facet counts for the filter, empty until the index has been loaded
+     */
+    public Optional<JobFacets> facets(JobFilter filter) {
+        return facets(filter, null);
+    }
+    
+    /**
+     * Facet counts for the filter with its salary criterion given as the matching jobs, e.g. overlapping
+     * salary ranges from the salary index; the filter's own salary bounds apply when salaryMatches is null
+     */
+    public Optional<JobFacets> facets(JobFilter filter, JobIdBitmap salaryMatches) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        
+        lock.readLock().lock();
+        try {
+            JobIdBitmap jobType = filter.getJobType() != null
+                    ? state.valueOrEmpty(state.jobTypes, filter.getJobType()) : null;
+            JobIdBitmap experienceLevel = filter.getExperienceLevel() != null
+                    ? state.valueOrEmpty(state.experienceLevels, filter.getExperienceLevel()) : null;
+            JobIdBitmap remote = filter.getRemote() != null ? state.remoteMatches(filter.getRemote()) : null;
+            JobIdBitmap category = filter.getCategoryId() != null
+                    ? state.valueOrEmpty(state.categories, filter.getCategoryId()) : null;
+            JobIdBitmap location = filter.getLocation() != null ? state.locationMatches(filter.getLocation()) : null;
+            JobIdBitmap salary = salaryMatches != null
+                    ? salaryMatches : state.salaryMatches(filter.getMinSalary(), filter.getMaxSalary());
+            
+            JobIdBitmap withoutJobType = state.intersect(experienceLevel, remote, category, location, salary);
+            JobIdBitmap withoutExperienceLevel = state.intersect(jobType, remote, category, location, salary);
+            JobIdBitmap withoutRemote = state.intersect(jobType, experienceLevel, category, location, salary);
+            JobIdBitmap withoutCategory = state.intersect(jobType, experienceLevel, remote, location, salary);
+            JobIdBitmap withoutSalary = state.intersect(jobType, experienceLevel, remote, category, location);
+            
+            Map<Boolean, Long> remoteCounts = new LinkedHashMap<>();
+            remoteCounts.put(true, countIntersection(withoutRemote, state.remote));
+            remoteCounts.put(false, withoutRemote.cardinality() - remoteCounts.get(true));
+            
+            return Optional.of(JobFacets.builder()
+                    .total(countIntersection(withoutJobType, jobType))
+                    .jobTypes(countValues(withoutJobType, state.jobTypes, new EnumMap<>(JobType.class), JobType.values()))
+                    .experienceLevels(countValues(withoutExperienceLevel, state.experienceLevels,
+                            new EnumMap<>(ExperienceLevel.class), ExperienceLevel.values()))
+                    .remote(remoteCounts)
+                    .categories(countValues(withoutCategory, state.categories, new LinkedHashMap<>(),
+                            state.categories.keySet().toArray(new Long[0])))
+                    .salaryBands(countValues(withoutSalary, state.salaryBands,
+                            new EnumMap<>(SalaryBand.class), SalaryBand.values()))
+                    .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * The given active job IDs ordered newest first by createdAt, IDs no longer indexed are dropped
+     */
+    public List<Long> newestFirst(JobIdBitmap jobIds) {
+        return newestFirst(jobIds, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * The newest limit of the given active job IDs by createdAt, enough for a page at offset + size.
+     * Dense matches walk the creation order and stop once limit IDs were found; sparse ones, where that
+     * walk would visit most of the catalogue, keep the newest limit documents in a bounded heap.
+     */
+    public List<Long> newestFirst(JobIdBitmap jobIds, int limit) {
+        lock.readLock().lock();
+        try {
+            long matches = jobIds.cardinality();
+            int wanted = (int) Math.min(limit, matches);
+            List<Long> ordered = new ArrayList<>(Math.max(wanted, 0));
+            if (wanted <= 0) {
+                return ordered;
+            }
+            
+            if ((double) wanted * state.documents.size() / matches <= matches) {
+                for (JobDocument document : state.newestFirst) {
+                    if (jobIds.contains(document.getId())) {
+                        ordered.add(document.getId());
+                        if (ordered.size() == wanted) {
+                            break;
+                        }
+                    }
+                }
+                return ordered;
+            }
+            
+            // Head is the oldest document kept so far
+            PriorityQueue<JobDocument> newest = new PriorityQueue<>(wanted, NEWEST_FIRST.reversed());
+            for (Long jobId : jobIds.toDescendingList()) {
+                JobDocument document = state.documents.get(jobId);
+                if (document == null) {
+                    continue;
+                }
+                if (newest.size() < wanted) {
+                    newest.add(document);
+                } else if (NEWEST_FIRST.compare(document, newest.peek()) < 0) {
+                    newest.poll();
+                    newest.add(document);
+                }
+            }
+            List<JobDocument> documents = new ArrayList<>(newest);
+            documents.sort(NEWEST_FIRST);
+            for (JobDocument document : documents) {
+                ordered.add(document.getId());
+            }
+            return ordered;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Active job IDs matching every criterion of the filter as a bitmap owned by the caller,
+     * empty until the index has been loaded
+     */
+    public Optional<JobIdBitmap> match(JobFilter filter) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        
+        lock.readLock().lock();
+        try {
+            return Optional.of(state.intersect(
+                    filter.getJobType() != null
+                            ? state.valueOrEmpty(state.jobTypes, filter.getJobType()) : null,
+                    filter.getExperienceLevel() != null
+                            ? state.valueOrEmpty(state.experienceLevels, filter.getExperienceLevel()) : null,
+                    filter.getSalaryType() != null
+                            ? state.valueOrEmpty(state.salaryTypes, filter.getSalaryType()) : null,
+                    filter.getRemote() != null ? state.remoteMatches(filter.getRemote()) : null,
+                    filter.getCategoryId() != null
+                            ? state.valueOrEmpty(state.categories, filter.getCategoryId()) : null,
+                    filter.getLocation() != null ? state.locationMatches(filter.getLocation()) : null,
+                    filter.getCompanyName() != null ? state.companyMatches(filter.getCompanyName()) : null,
+                    state.salaryMatches(filter.getMinSalary(), filter.getMaxSalary())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static <K> Map<K, Long> countValues(JobIdBitmap base, Map<K, JobIdBitmap> valueSets,
+                                                Map<K, Long> counts, K[] keys) {
+        for (K key : keys) {
+            counts.put(key, countIntersection(base, valueSets.get(key)));
+        }
+        return counts;
+    }
+    
+    private static long countIntersection(JobIdBitmap base, JobIdBitmap other) {
+        return other == null ? base.cardinality() : base.andCardinality(other);
+    }
+    
+    /**
+     * Index content swapped as a unit on rebuild
+     */
+    private static final class FacetState {
+        
+        private final Map<Long, JobDocument> documents = new HashMap<>();
+        // Active documents in creation order, kept alongside the bitmaps so ordering a match needs no sort
+        private final NavigableSet<JobDocument> newestFirst = new TreeSet<>(NEWEST_FIRST);
+        
+        private final JobIdBitmap active = new JobIdBitmap();
+        private final JobIdBitmap remote = new JobIdBitmap();
+        private final Map<JobType, JobIdBitmap> jobTypes = new EnumMap<>(JobType.class);
+        private final Map<ExperienceLevel, JobIdBitmap> experienceLevels = new EnumMap<>(ExperienceLevel.class);
+        private final Map<SalaryType, JobIdBitmap> salaryTypes = new EnumMap<>(SalaryType.class);
+        private final Map<SalaryBand, JobIdBitmap> salaryBands = new EnumMap<>(SalaryBand.class);
+        private final Map<Long, JobIdBitmap> categories = new TreeMap<>();
+        private final Map<String, JobIdBitmap> locations = new HashMap<>();
+        private final Map<String, JobIdBitmap> companies = new HashMap<>();
+        private final NavigableMap<BigDecimal, JobIdBitmap> salaryMins = new TreeMap<>();
+        private final NavigableMap<BigDecimal, JobIdBitmap> salaryMaxes = new TreeMap<>();
+        
+        void add(JobDocument document) {
+            if (!document.isActive()) {
+                return;
+            }
+            
+            long jobId = document.getId();
+            documents.put(jobId, document);
+            newestFirst.add(document);
+            active.add(jobId);
+            if (document.isRemote()) {
+                remote.add(jobId);
+            }
+            set(jobTypes, document.getJobType(), jobId);
+            set(experienceLevels, document.getExperienceLevel(), jobId);
+            set(salaryTypes, document.getSalaryType(), jobId);
+            set(salaryBands, salaryBandOf(document), jobId);
+            set(categories, document.getCategoryId(), jobId);
+            set(locations, normalize(document.getLocation()), jobId);
+            set(companies, normalize(document.getCompanyName()), jobId);
+            set(salaryMins, document.getSalaryMin(), jobId);
+            set(salaryMaxes, document.getSalaryMax(), jobId);
+        }
+        
+        void remove(Long jobId) {
+            JobDocument document = documents.remove(jobId);
+            if (document == null) {
+                return;
+            }
+            
+            newestFirst.remove(document);
+            active.remove(jobId);
+            remote.remove(jobId);
+            clear(jobTypes, document.getJobType(), jobId);
+            clear(experienceLevels, document.getExperienceLevel(), jobId);
+            clear(salaryTypes, document.getSalaryType(), jobId);
+            clear(salaryBands, salaryBandOf(document), jobId);
+            clear(categories, document.getCategoryId(), jobId);
+            clear(locations, normalize(document.getLocation()), jobId);
+            clear(companies, normalize(document.getCompanyName()), jobId);
+            clear(salaryMins, document.getSalaryMin(), jobId);
+            clear(salaryMaxes, document.getSalaryMax(), jobId);
+        }
+        
+        /**
+         * Active jobs matching every non-null filter bitmap, always a new bitmap
+         */
+        JobIdBitmap intersect(JobIdBitmap... filters) {
+            JobIdBitmap result = null;
+            for (JobIdBitmap filter : filters) {
+                if (filter != null) {
+                    result = result == null ? active.and(filter) : result.and(filter);
+                }
+            }
+            return result != null ? result : active.copy();
+        }
+        
+        JobIdBitmap remoteMatches(boolean wantRemote) {
+            return wantRemote ? remote : active.andNot(remote);
+        }
+        
+        /**
+         * Substring match over the distinct locations, like the LIKE query it stands in for
+         */
+        JobIdBitmap locationMatches(String location) {
+            return substringMatches(locations, normalize(location));
+        }
+        
+        /**
+         * Substring match over the distinct company names, like the company name LIKE query
+         */
+        JobIdBitmap companyMatches(String companyName) {
+            return substringMatches(companies, normalize(companyName));
+        }
+        
+        /**
+         * Jobs with salaryMin >= minSalary and salaryMax <= maxSalary, null when neither bound is given
+         */
+        JobIdBitmap salaryMatches(BigDecimal minSalary, BigDecimal maxSalary) {
+            if (minSalary == null && maxSalary == null) {
+                return null;
+            }
+            JobIdBitmap matches = active;
+            if (minSalary != null) {
+                matches = matches.and(union(salaryMins.tailMap(minSalary, true).values()));
+            }
+            if (maxSalary != null) {
+                matches = matches.and(union(salaryMaxes.headMap(maxSalary, true).values()));
+            }
+            return matches;
+        }
+        
+        <K> JobIdBitmap valueOrEmpty(Map<K, JobIdBitmap> bitmaps, K key) {
+            return bitmaps.getOrDefault(key, new JobIdBitmap());
+        }
+        
+        private static JobIdBitmap substringMatches(Map<String, JobIdBitmap> values, String needle) {
+            JobIdBitmap matches = new JobIdBitmap();
+            for (Map.Entry<String, JobIdBitmap> candidate : values.entrySet()) {
+                if (candidate.getKey().contains(needle)) {
+                    matches.orInPlace(candidate.getValue());
+                }
+            }
+            return matches;
+        }
+        
+        private static JobIdBitmap union(Collection<JobIdBitmap> bitmaps) {
+            JobIdBitmap union = new JobIdBitmap();
+            for (JobIdBitmap bitmap : bitmaps) {
+                union.orInPlace(bitmap);
+            }
+            return union;
+        }
+        
+        private static SalaryBand salaryBandOf(JobDocument document) {
+            return SalaryBand.of(document.getSalaryMin(), document.getSalaryMax(), document.getSalaryType());
+        }
+        
+        private static String normalize(String value) {
+            return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+        }
+        
+        private static <K> void set(Map<K, JobIdBitmap> bitmaps, K key, long jobId) {
+            if (key != null) {
+                bitmaps.computeIfAbsent(key, ignored -> new JobIdBitmap()).add(jobId);
+            }
+        }
+        
+        private static <K> void clear(Map<K, JobIdBitmap> bitmaps, K key, long jobId) {
+            if (key == null) {
+                return;
+            }
+            JobIdBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(jobId);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryBand;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Facet counts for a job filter
+ * - Each facet is counted with every other filter applied but not its own,
+ *   so the UI can show how many jobs switching to another value would return
+ */
+@Value
+@Builder
+public class JobFacets {
+    
+    long total;
+    Map<JobType, Long> jobTypes;
+    Map<ExperienceLevel, Long> experienceLevels;
+    Map<Boolean, Long> remote;
+    Map<Long, Long> categories;
+    Map<SalaryBand, Long> salaryBands;
+}
@@ -0,0 +1,29 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SalaryType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Structured job filter evaluated by the in-memory indexes
+ * - Mirrors the criteria of the /jobs/filter endpoint, every null field means "any"
+ * - salaryType and companyName are only understood by the in-memory indexes
+ */
+@Value
+@Builder
+public class JobFilter {
+    
+    String location;
+    JobType jobType;
+    ExperienceLevel experienceLevel;
+    BigDecimal minSalary;
+    BigDecimal maxSalary;
+    SalaryType salaryType;
+    Boolean remote;
+    Long categoryId;
+    String companyName;
+}
@@ -0,0 +1,147 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.infrastructure.geo.BoundingBox;
+import com.nexus.jobboard.infrastructure.geo.GeoHash;
+import com.nexus.jobboard.infrastructure.geo.GeoPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Node-local geohash index over geocoded active jobs following SRP
+ * - Jobs are kept sorted by geohash, so every covering cell is one range scan
+ * - Candidates from the covering cells are checked exactly against the box and radius
+ */
+@Component
+@Slf4j
+public class JobGeoIndex implements JobIndex {
+    
+    /**
+     * Upper bound on covering cells per query, coarser cells are used for larger areas
+     */
+    private static final int MAX_COVERING_CELLS = 32;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private GeoState state = new GeoState();
+    private volatile boolean ready = false;
+    
+    @Override
+    public void rebuild(Collection<JobDocument> activeDocuments) {
+        GeoState newState = new GeoState();
+        for (JobDocument document : activeDocuments) {
+            newState.add(document);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job geo index rebuilt with {} geocoded jobs", newState.points.size());
+    }
+    
+    @Override
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            state.remove(document.getId());
+            state.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Geocoded active jobs inside the box and, when a radius is given, within radiusKm of the center
+     */
+    public Optional<List<GeoMatch>> findWithin(BoundingBox box, GeoPoint center, Double radiusKm) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        
+        lock.readLock().lock();
+        try {
+            List<GeoMatch> matches = new ArrayList<>();
+            for (String cell : GeoHash.cover(box, MAX_COVERING_CELLS)) {
+                for (Set<Long> jobIds : state.byGeohash.subMap(cell, true, cell + Character.MAX_VALUE, false).values()) {
+                    for (Long jobId : jobIds) {
+                        GeoPoint point = state.points.get(jobId);
+                        if (!box.contains(point)) {
+                            continue;
+                        }
+                        Double distanceKm = center != null ? center.distanceKm(point) : null;
+                        if (radiusKm == null || distanceKm <= radiusKm) {
+                            matches.add(new GeoMatch(jobId, distanceKm, state.createdAt.get(jobId)));
+                        }
+                    }
+                }
+            }
+            return Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Index content swapped as a unit on rebuild
+     */
+    private static final class GeoState {
+        
+        private final NavigableMap<String, Set<Long>> byGeohash = new TreeMap<>();
+        private final Map<Long, GeoPoint> points = new HashMap<>();
+        private final Map<Long, LocalDateTime> createdAt = new HashMap<>();
+        
+        void add(JobDocument document) {
+            if (!document.isActive() || document.getLatitude() == null || document.getLongitude() == null) {
+                return;
+            }
+            
+            GeoPoint point = new GeoPoint(document.getLatitude(), document.getLongitude());
+            points.put(document.getId(), point);
+            createdAt.put(document.getId(), document.getCreatedAt());
+            byGeohash.computeIfAbsent(geohashOf(point), key -> new HashSet<>()).add(document.getId());
+        }
+        
+        void remove(Long jobId) {
+            createdAt.remove(jobId);
+            GeoPoint point = points.remove(jobId);
+            if (point == null) {
+                return;
+            }
+            
+            String geohash = geohashOf(point);
+            Set<Long> jobIds = byGeohash.get(geohash);
+            if (jobIds != null) {
+                jobIds.remove(jobId);
+                if (jobIds.isEmpty()) {
+                    byGeohash.remove(geohash);
+                }
+            }
+        }
+        
+        private static String geohashOf(GeoPoint point) {
+            return GeoHash.encode(point.getLatitude(), point.getLongitude(), GeoHash.MAX_PRECISION);
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of job IDs in the style of a roaring bitmap
+ * - IDs are split into a high key and a 16-bit low part, each key owns one container
+ * - Sparse containers keep a sorted char array, dense ones (over 4096 values) a 65536-bit bitmap
+ * - Not thread safe, owners guard instances with their own locks
+ */
+public final class JobIdBitmap {
+    
+    /**
+     * Largest array container, beyond this a bitmap container is smaller
+     */
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    
+    private static final int BITMAP_WORDS = 1 << 10;
+    
+    private final TreeMap<Long, Container> containers = new TreeMap<>();
+    
+    public static JobIdBitmap of(Collection<Long> jobIds) {
+        JobIdBitmap bitmap = new JobIdBitmap();
+        jobIds.forEach(bitmap::add);
+        return bitmap;
+    }
+    
+    public void add(long jobId) {
+        long key = jobId >>> 16;
+        Container container = containers.get(key);
+        containers.put(key, container == null
+                ? new ArrayContainer().add(lowBits(jobId))
+                : container.add(lowBits(jobId)));
+    }
+    
+    public void remove(long jobId) {
+        long key = jobId >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            return;
+        }
+        Container updated = container.remove(lowBits(jobId));
+        if (updated == null) {
+            containers.remove(key);
+        } else {
+            containers.put(key, updated);
+        }
+    }
+    
+    public boolean contains(long jobId) {
+        Container container = containers.get(jobId >>> 16);
+        return container != null && container.contains(lowBits(jobId));
+    }
+    
+    public long cardinality() {
+        long cardinality = 0;
+        for (Container container : containers.values()) {
+            cardinality += container.cardinality();
+        }
+        return cardinality;
+    }
+    
+    public boolean isEmpty() {
+        return containers.isEmpty();
+    }
+    
+    public JobIdBitmap copy() {
+        JobIdBitmap copy = new JobIdBitmap();
+        containers.forEach((key, container) -> copy.containers.put(key, container.copy()));
+        return copy;
+    }
+    
+    public JobIdBitmap and(JobIdBitmap other) {
+        JobIdBitmap result = new JobIdBitmap();
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            if (otherContainer != null) {
+                result.putIfNotEmpty(entry.getKey(), entry.getValue().and(otherContainer));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Size of the intersection without building it
+     */
+    public long andCardinality(JobIdBitmap other) {
+        long cardinality = 0;
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            if (otherContainer != null) {
+                cardinality += entry.getValue().andCardinality(otherContainer);
+            }
+        }
+        return cardinality;
+    }
+    
+    public JobIdBitmap or(JobIdBitmap other) {
+        JobIdBitmap result = copy();
+        other.containers.forEach((key, otherContainer) -> {
+            Container container = result.containers.get(key);
+            result.containers.put(key, container == null ? otherContainer.copy() : container.or(otherContainer));
+        });
+        return result;
+    }
+    
+    /**
+     * Adds every ID of other to this bitmap and returns it, for unions over many bitmaps without a copy per step
+     */
+    public JobIdBitmap orInPlace(JobIdBitmap other) {
+        other.containers.forEach((key, otherContainer) -> {
+            Container container = containers.get(key);
+            containers.put(key, container == null ? otherContainer.copy() : container.orInPlace(otherContainer));
+        });
+        return this;
+    }
+    
+    public JobIdBitmap andNot(JobIdBitmap other) {
+        JobIdBitmap result = new JobIdBitmap();
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            result.putIfNotEmpty(entry.getKey(), otherContainer == null
+                    ? entry.getValue().copy()
+                    : entry.getValue().andNot(otherContainer));
+        }
+        return result;
+    }
+    
+    /**
+     * Job IDs from highest to lowest; pooled sequence IDs are not in creation order, see JobFacetIndex.newestFirst
+     */
+    public List<Long> toDescendingList() {
+        List<Long> jobIds = new ArrayList<>((int) Math.min(cardinality(), Integer.MAX_VALUE));
+        for (Map.Entry<Long, Container> entry : containers.descendingMap().entrySet()) {
+            long high = entry.getKey() << 16;
+            entry.getValue().forEachDescending(low -> jobIds.add(high | low));
+        }
+        return jobIds;
+    }
+    
+    private void putIfNotEmpty(long key, Container container) {
+        if (container != null) {
+            containers.put(key, container);
+        }
+    }
+    
+    private static char lowBits(long jobId) {
+        return (char) (jobId & 0xFFFF);
+    }
+    
+    /**
+     * Normalise raw bitmap words into the smaller container kind, null when empty
+     */
+    private static Container fromWords(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        if (cardinality == 0) {
+            return null;
+        }
+        if (cardinality > ARRAY_CONTAINER_MAX) {
+            return new BitmapContainer(words, cardinality);
+        }
+        
+        char[] values = new char[cardinality];
+        int size = 0;
+        for (int index = 0; index < words.length; index++) {
+            long word = words[index];
+            while (word != 0) {
+                values[size++] = (char) (index * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, size);
+    }
+    
+    /**
+     * Values sharing one high key; mutators return the container to keep, null when it became empty
+     */
+    private abstract static class Container {
+        
+        abstract Container add(char value);
+        
+        abstract Container remove(char value);
+        
+        abstract boolean contains(char value);
+        
+        abstract int cardinality();
+        
+        abstract long[] toWords();
+        
+        abstract void forEachDescending(IntConsumer consumer);
+        
+        abstract Container copy();
+        
+        /**
+         * Union stored in this container when it can hold it, otherwise in a new one
+         */
+        abstract Container orInPlace(Container other);
+        
+        Container and(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int index = 0; index < BITMAP_WORDS; index++) {
+                words[index] &= otherWords[index];
+            }
+            return fromWords(words);
+        }
+        
+        int andCardinality(Container other) {
+            long[] otherWords = other.toWords();
+            long[] words = toWords();
+            int cardinality = 0;
+            for (int index = 0; index < BITMAP_WORDS; index++) {
+                cardinality += Long.bitCount(words[index] & otherWords[index]);
+            }
+            return cardinality;
+        }
+        
+        Container or(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int index = 0; index < BITMAP_WORDS; index++) {
+                words[index] |= otherWords[index];
+            }
+            return fromWords(words);
+        }
+        
+        Container andNot(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int index = 0; index < BITMAP_WORDS; index++) {
+                words[index] &= ~otherWords[index];
+            }
+            return fromWords(words);
+        }
+    }
+    
+    private static final class ArrayContainer extends Container {
+        
+        private char[] values;
+        private int size;
+        
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+        
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+        
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_CONTAINER_MAX) {
+                long[] words = toWords();
+                words[value >>> 6] |= 1L << value;
+                return new BitmapContainer(words, size + 1);
+            }
+            
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CONTAINER_MAX));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+            return this;
+        }
+        
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return this;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return size == 0 ? null : this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+        
+        @Override
+        int cardinality() {
+            return size;
+        }
+        
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int index = 0; index < size; index++) {
+                words[values[index] >>> 6] |= 1L << values[index];
+            }
+            return words;
+        }
+        
+        @Override
+        void forEachDescending(IntConsumer consumer) {
+            for (int index = size - 1; index >= 0; index--) {
+                consumer.accept(values[index]);
+            }
+        }
+        
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, size), size);
+        }
+        
+        @Override
+        Container and(Container other) {
+            char[] matches = new char[size];
+            int matchCount = 0;
+            for (int index = 0; index < size; index++) {
+                if (other.contains(values[index])) {
+                    matches[matchCount++] = values[index];
+                }
+            }
+            return matchCount == 0 ? null : new ArrayContainer(matches, matchCount);
+        }
+        
+        @Override
+        Container orInPlace(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.copy().orInPlace(this);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] merged = new char[size + otherArray.size];
+            int mergedSize = 0;
+            int mine = 0;
+            int theirs = 0;
+            while (mine < size || theirs < otherArray.size) {
+                char next;
+                if (theirs == otherArray.size || (mine < size && values[mine] < otherArray.values[theirs])) {
+                    next = values[mine++];
+                } else if (mine == size || otherArray.values[theirs] < values[mine]) {
+                    next = otherArray.values[theirs++];
+                } else {
+                    next = values[mine++];
+                    theirs++;
+                }
+                merged[mergedSize++] = next;
+            }
+            if (mergedSize > ARRAY_CONTAINER_MAX) {
+                long[] words = new long[BITMAP_WORDS];
+                for (int index = 0; index < mergedSize; index++) {
+                    words[merged[index] >>> 6] |= 1L << merged[index];
+                }
+                return new BitmapContainer(words, mergedSize);
+            }
+            values = merged;
+            size = mergedSize;
+            return this;
+        }
+        
+        @Override
+        int andCardinality(Container other) {
+            int cardinality = 0;
+            for (int index = 0; index < size; index++) {
+                if (other.contains(values[index])) {
+                    cardinality++;
+                }
+            }
+            return cardinality;
+        }
+        
+        @Override
+        Container andNot(Container other) {
+            char[] remaining = new char[size];
+            int remainingCount = 0;
+            for (int index = 0; index < size; index++) {
+                if (!other.contains(values[index])) {
+                    remaining[remainingCount++] = values[index];
+                }
+            }
+            return remainingCount == 0 ? null : new ArrayContainer(remaining, remainingCount);
+        }
+    }
+    
+    private static final class BitmapContainer extends Container {
+        
+        private final long[] words;
+        private int cardinality;
+        
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+        
+        @Override
+        Container add(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+        
+        @Override
+        Container remove(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                return this;
+            }
+            words[value >>> 6] &= ~mask;
+            cardinality--;
+            return cardinality > ARRAY_CONTAINER_MAX ? this : fromWords(words);
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+        
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+        
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+        
+        @Override
+        Container orInPlace(Container other) {
+            if (other instanceof BitmapContainer) {
+                long[] otherWords = ((BitmapContainer) other).words;
+                int union = 0;
+                for (int index = 0; index < BITMAP_WORDS; index++) {
+                    words[index] |= otherWords[index];
+                    union += Long.bitCount(words[index]);
+                }
+                cardinality = union;
+            } else {
+                ArrayContainer otherArray = (ArrayContainer) other;
+                for (int index = 0; index < otherArray.size; index++) {
+                    add(otherArray.values[index]);
+                }
+            }
+            return this;
+        }
+        
+        @Override
+        int andCardinality(Container other) {
+            if (!(other instanceof BitmapContainer)) {
+                return other.andCardinality(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int matches = 0;
+            for (int index = 0; index < BITMAP_WORDS; index++) {
+                matches += Long.bitCount(words[index] & otherWords[index]);
+            }
+            return matches;
+        }
+        
+        @Override
+        void forEachDescending(IntConsumer consumer) {
+            for (int index = BITMAP_WORDS - 1; index >= 0; index--) {
+                long word = words[index];
+                while (word != 0) {
+                    int bit = 63 - Long.numberOfLeadingZeros(word);
+                    consumer.accept(index * 64 + bit);
+                    word &= ~(1L << bit);
+                }
+            }
+        }
+        
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import java.util.Collection;
+
+/**
+ * Contract for node-local job indexes following ISP
+ * - Implementations are bulk loaded on startup and kept current by {@link JobIndexCoordinator}
+ */
+public interface JobIndex {
+    
+    /**
+     * Replace the whole index content with the given active jobs
+     */
+    void rebuild(Collection<JobDocument> documents);
+    
+    /**
+     * Add or replace a single active job
+     */
+    void index(JobDocument document);
+    
+    /**
+     * Remove a job, ignoring unknown IDs
+     */
+    void remove(Long jobId);
+}
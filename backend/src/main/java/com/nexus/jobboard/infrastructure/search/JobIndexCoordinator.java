@@ -0,0 +1,151 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every {@link JobIndex} in sync with the database following SRP
+ * - Bulk loads active jobs in ID order once the application is ready
+ * - Applies {@link JobChangedEvent}s after the publishing transaction commits, and the changes other
+ *   nodes broadcast, so a job written or expired elsewhere leaves this node's indexes too
+ * - Changes arriving during a bulk load are queued and replayed after the swap
+ */
+@Component
+@Slf4j
+public class JobIndexCoordinator {
+    
+    private final JobRepository jobRepository;
+    private final List<JobIndex> indexes;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int batchSize;
+    
+    private final Queue<JobChangedEvent> pendingEvents = new ArrayDeque<>();
+    private boolean loading = false;
+    
+    public JobIndexCoordinator(JobRepository jobRepository,
+                               List<JobIndex> indexes,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${search.index.enabled:true}") boolean enabled,
+                               @Value("${search.index.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.indexes = indexes;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexes() {
+        if (!enabled) {
+            log.info("In-memory job indexes are disabled, searches will use the database");
+            return;
+        }
+        
+        synchronized (this) {
+            loading = true;
+        }
+        
+        try {
+            long started = System.currentTimeMillis();
+            List<JobDocument> documents = loadActiveDocuments();
+            
+            synchronized (this) {
+                indexes.forEach(index -> index.rebuild(documents));
+                JobChangedEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    apply(event);
+                }
+            }
+            log.info("Loaded {} active jobs into {} indexes in {} ms",
+                    documents.size(), indexes.size(), System.currentTimeMillis() - started);
+        } finally {
+            synchronized (this) {
+                loading = false;
+                pendingEvents.clear();
+            }
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        accept(event);
+    }
+    
+    /**
+     * Applies a change committed on another node
+     */
+    public void onRemoteJobChanged(JobChangedEvent event) {
+        accept(event);
+    }
+    
+    /**
+     * Drops jobs found inactive before their change event reached this node
+     */
+    public void removeInactive(Collection<Long> jobIds) {
+        for (Long jobId : jobIds) {
+            accept(new JobChangedEvent(JobDocument.builder().id(jobId).active(false).build(),
+                    JobChangedEvent.ChangeType.DEACTIVATED));
+        }
+    }
+    
+    private synchronized void accept(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (loading) {
+            pendingEvents.add(event);
+            return;
+        }
+        apply(event);
+    }
+    
+    private void apply(JobChangedEvent event) {
+        log.debug("Applying {} for job {} to in-memory indexes", event.getChangeType(), event.getJobId());
+        
+        JobDocument document = event.getDocument();
+        for (JobIndex index : indexes) {
+            if (document.isActive()) {
+                index.index(document);
+            } else {
+                index.remove(document.getId());
+            }
+        }
+    }
+    
+    private List<JobDocument> loadActiveDocuments() {
+        List<JobDocument> documents = new ArrayList<>();
+        long lastId = 0L;
+        
+        while (true) {
+            final long afterId = lastId;
+            List<JobDocument> batch = readOnlyTransaction.execute(status ->
+                    jobRepository.findActiveJobsAfterId(afterId, PageRequest.ofSize(batchSize)).stream()
+                            .map(JobDocument::from)
+                            .collect(Collectors.toList()));
+            
+            if (batch == null || batch.isEmpty()) {
+                return documents;
+            }
+            documents.addAll(batch);
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
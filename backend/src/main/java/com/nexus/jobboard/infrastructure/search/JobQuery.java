@@ -0,0 +1,37 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Combined job query evaluated by the {@link JobQueryPlanner}
+ * - Free text, skills and structured filters are all optional and combined with AND
+ */
+@Value
+@Builder
+public class JobQuery {
+    
+    String searchTerm;
+    JobFilter filter;
+    @Builder.Default
+    List<Long> skillIds = Collections.emptyList();
+    int minimumSkillMatches;
+    
+    public boolean hasSearchTerm() {
+        return searchTerm != null && !searchTerm.isBlank();
+    }
+    
+    public boolean hasSkills() {
+        return !skillIds.isEmpty();
+    }
+    
+    public boolean hasFilter() {
+        return filter.getLocation() != null || filter.getJobType() != null
+                || filter.getExperienceLevel() != null || filter.getMinSalary() != null
+                || filter.getMaxSalary() != null || filter.getRemote() != null
+                || filter.getCategoryId() != null || filter.getCompanyName() != null;
+    }
+}
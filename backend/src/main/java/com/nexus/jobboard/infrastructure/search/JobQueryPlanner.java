@@ -0,0 +1,267 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Cost-based planner over the in-memory indexes following SRP
+ * - Each predicate of a {@link JobQuery} becomes an access path with a cheap cardinality estimate:
+ *   text postings, skill postings or the filter bitmap
+ * - The most selective path drives and produces the candidates, the others only filter them,
+ *   cheapest estimate first, and stop as soon as nothing is left
+ * - Results are ranked by text relevance, then by matched skills, then newest first by createdAt
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobQueryPlanner {
+    
+    private final JobTextIndex jobTextIndex;
+    private final JobSkillIndex jobSkillIndex;
+    private final JobFacetIndex jobFacetIndex;
+    
+    /**
+     * Runs the query on the indexes, empty when a needed index is not loaded and the database has to answer
+     */
+    public Optional<JobQueryResult> execute(JobQuery query) {
+        long started = System.nanoTime();
+        
+        List<AccessPath> paths = new ArrayList<>();
+        TextPath text = null;
+        SkillPath skills = null;
+        if (query.hasSearchTerm()) {
+            if (!jobTextIndex.isReady()) {
+                return Optional.empty();
+            }
+            text = new TextPath(query.getSearchTerm());
+            paths.add(text);
+        }
+        if (query.hasSkills()) {
+            if (!jobSkillIndex.isReady()) {
+                return Optional.empty();
+            }
+            skills = new SkillPath(query.getSkillIds(), query.getMinimumSkillMatches());
+            paths.add(skills);
+        }
+        if (query.hasFilter() || paths.isEmpty()) {
+            Optional<JobIdBitmap> filterMatches = jobFacetIndex.match(query.getFilter());
+            if (filterMatches.isEmpty()) {
+                return Optional.empty();
+            }
+            paths.add(new FilterPath(filterMatches.get()));
+        }
+        paths.sort(Comparator.comparingLong(AccessPath::estimate));
+        double planningMillis = millisSince(started);
+        
+        List<QueryPlanStep> steps = new ArrayList<>();
+        List<Long> candidates = null;
+        for (AccessPath path : paths) {
+            boolean driving = candidates == null;
+            if (!driving && candidates.isEmpty()) {
+                steps.add(step(path, false, null, 0.0));
+                continue;
+            }
+            long stepStarted = System.nanoTime();
+            candidates = driving ? path.fetch() : path.retain(candidates);
+            steps.add(step(path, driving, (long) candidates.size(), millisSince(stepStarted)));
+        }
+        
+        List<Long> ordered = rank(candidates, text, skills);
+        QueryPlan plan = QueryPlan.builder()
+                .accessMethod(QueryPlan.INDEX)
+                .drivingPath(paths.get(0).accessPath())
+                .steps(steps)
+                .matchedJobs(ordered.size())
+                .planningMillis(planningMillis)
+                .elapsedMillis(millisSince(started))
+                .build();
+        log.debug("Planned query driven by {} over {} predicates, {} matches",
+                plan.getDrivingPath(), paths.size(), ordered.size());
+        return Optional.of(new JobQueryResult(ordered, plan));
+    }
+    
+    /**
+     * Text relevance wins when there is a search term, otherwise most matched skills, ties keep the driver's order
+     */
+    private static List<Long> rank(List<Long> candidates, TextPath text, SkillPath skills) {
+        List<Long> ordered = new ArrayList<>(candidates);
+        if (text != null) {
+            Map<Long, Integer> positions = text.positions();
+            ordered.sort(Comparator.comparingInt(positions::get));
+        } else if (skills != null) {
+            Map<Long, Integer> matchedSkills = skills.matchedSkills;
+            ordered.sort(Comparator.comparingInt((Long jobId) -> matchedSkills.getOrDefault(jobId, 0)).reversed());
+        }
+        return ordered;
+    }
+    
+    private static QueryPlanStep step(AccessPath path, boolean driving, Long remaining, double elapsedMillis) {
+        return QueryPlanStep.builder()
+                .predicate(path.predicate())
+                .accessPath(path.accessPath())
+                .driving(driving)
+                .estimatedJobs(path.estimate())
+                .remainingJobs(remaining)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+    
+    private static double millisSince(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000.0;
+    }
+    
+    /**
+     * One predicate with its estimate; fetch produces candidates in ranked order, retain filters them keeping order
+     */
+    private interface AccessPath {
+        
+        String predicate();
+        
+        String accessPath();
+        
+        long estimate();
+        
+        List<Long> fetch();
+        
+        List<Long> retain(List<Long> candidates);
+    }
+    
+    private final class TextPath implements AccessPath {
+        
+        private final String searchTerm;
+        private final long estimate;
+        private List<Long> hits;
+        
+        TextPath(String searchTerm) {
+            this.searchTerm = searchTerm;
+            this.estimate = jobTextIndex.estimateMatches(searchTerm);
+        }
+        
+        @Override
+        public String predicate() {
+            return "searchTerm";
+        }
+        
+        @Override
+        public String accessPath() {
+            return "text index";
+        }
+        
+        @Override
+        public long estimate() {
+            return estimate;
+        }
+        
+        @Override
+        public List<Long> fetch() {
+            if (hits == null) {
+                hits = jobTextIndex.search(searchTerm);
+            }
+            return hits;
+        }
+        
+        @Override
+        public List<Long> retain(List<Long> candidates) {
+            Set<Long> matches = new HashSet<>(fetch());
+            return candidates.stream().filter(matches::contains).collect(Collectors.toList());
+        }
+        
+        Map<Long, Integer> positions() {
+            List<Long> ranked = fetch();
+            Map<Long, Integer> positions = new HashMap<>(ranked.size() * 2);
+            for (int position = 0; position < ranked.size(); position++) {
+                positions.put(ranked.get(position), position);
+            }
+            return positions;
+        }
+    }
+    
+    private final class SkillPath implements AccessPath {
+        
+        private final List<Long> skillIds;
+        private final int minimumMatches;
+        private final long estimate;
+        private final Map<Long, Integer> matchedSkills = new HashMap<>();
+        
+        SkillPath(List<Long> skillIds, int minimumMatches) {
+            this.skillIds = skillIds;
+            this.minimumMatches = minimumMatches;
+            this.estimate = jobSkillIndex.estimateMatches(skillIds, minimumMatches);
+        }
+        
+        @Override
+        public String predicate() {
+            return "skillIds";
+        }
+        
+        @Override
+        public String accessPath() {
+            return "skill postings";
+        }
+        
+        @Override
+        public long estimate() {
+            return estimate;
+        }
+        
+        @Override
+        public List<Long> fetch() {
+            return record(jobSkillIndex.match(skillIds, minimumMatches));
+        }
+        
+        @Override
+        public List<Long> retain(List<Long> candidates) {
+            return record(jobSkillIndex.retainMatching(candidates, skillIds, minimumMatches));
+        }
+        
+        private List<Long> record(List<SkillMatch> matches) {
+            List<Long> jobIds = new ArrayList<>(matches.size());
+            for (SkillMatch match : matches) {
+                matchedSkills.put(match.getJobId(), match.getMatchedSkills());
+                jobIds.add(match.getJobId());
+            }
+            return jobIds;
+        }
+    }
+    
+    /**
+     * The filter bitmap is exact and cheap to build, so its estimate is its cardinality
+     */
+    private final class FilterPath implements AccessPath {
+        
+        private final JobIdBitmap matches;
+        
+        FilterPath(JobIdBitmap matches) {
+            this.matches = matches;
+        }
+        
+        @Override
+        public String predicate() {
+            return "filters";
+        }
+        
+        @Override
+        public String accessPath() {
+            return "filter bitmap";
+        }
+        
+        @Override
+        public long estimate() {
+            return matches.cardinality();
+        }
+        
+        @Override
+        public List<Long> fetch() {
+            return jobFacetIndex.newestFirst(matches);
+        }
+        
+        @Override
+        public List<Long> retain(List<Long> candidates) {
+            return candidates.stream().filter(matches::contains).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Ordered job IDs matched by the planner together with the plan that produced them
+ */
+@Value
+public class JobQueryResult {
+    
+    List<Long> jobIds;
+    QueryPlan plan;
+}
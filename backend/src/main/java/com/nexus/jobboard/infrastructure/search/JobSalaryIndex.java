@@ -0,0 +1,166 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.SalaryType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Node-local salary interval index following SRP
+ * - Each active job with a time-based salary becomes a yearly [low, high] interval
+ * - Lower and upper endpoints are kept sorted, each endpoint value owning a bitmap of jobs
+ * - An overlap query removes the jobs starting above the range and those ending below it
+ */
+@Component
+@Slf4j
+public class JobSalaryIndex implements JobIndex {
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private SalaryState state = new SalaryState();
+    private volatile boolean ready = false;
+    
+    @Override
+    public void rebuild(Collection<JobDocument> activeDocuments) {
+        SalaryState newState = new SalaryState();
+        for (JobDocument document : activeDocuments) {
+            newState.add(document);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job salary index rebuilt with {} salary ranges", newState.intervals.size());
+    }
+    
+    @Override
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            state.remove(document.getId());
+            state.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Active jobs whose yearly salary range overlaps [minYearly, maxYearly], either bound may be open
+     */
+    public Optional<JobIdBitmap> findOverlapping(BigDecimal minYearly, BigDecimal maxYearly) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        
+        lock.readLock().lock();
+        try {
+            JobIdBitmap excluded = new JobIdBitmap();
+            if (maxYearly != null) {
+                for (JobIdBitmap startingAbove : state.byLow.tailMap(maxYearly, false).values()) {
+                    excluded.orInPlace(startingAbove);
+                }
+            }
+            if (minYearly != null) {
+                for (JobIdBitmap endingBelow : state.byHigh.headMap(minYearly, false).values()) {
+                    excluded.orInPlace(endingBelow);
+                }
+            }
+            return Optional.of(state.withSalary.andNot(excluded));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Index content swapped as a unit on rebuild
+     */
+    private static final class SalaryState {
+        
+        private final Map<Long, BigDecimal[]> intervals = new HashMap<>();
+        private final JobIdBitmap withSalary = new JobIdBitmap();
+        private final NavigableMap<BigDecimal, JobIdBitmap> byLow = new TreeMap<>();
+        private final NavigableMap<BigDecimal, JobIdBitmap> byHigh = new TreeMap<>();
+        
+        void add(JobDocument document) {
+            BigDecimal[] interval = yearlyInterval(document);
+            if (!document.isActive() || interval == null) {
+                return;
+            }
+            
+            long jobId = document.getId();
+            intervals.put(jobId, interval);
+            withSalary.add(jobId);
+            byLow.computeIfAbsent(interval[0], key -> new JobIdBitmap()).add(jobId);
+            byHigh.computeIfAbsent(interval[1], key -> new JobIdBitmap()).add(jobId);
+        }
+        
+        void remove(Long jobId) {
+            BigDecimal[] interval = intervals.remove(jobId);
+            if (interval == null) {
+                return;
+            }
+            
+            withSalary.remove(jobId);
+            removeEndpoint(byLow, interval[0], jobId);
+            removeEndpoint(byHigh, interval[1], jobId);
+        }
+        
+        private static void removeEndpoint(Map<BigDecimal, JobIdBitmap> endpoints, BigDecimal value, long jobId) {
+            JobIdBitmap bitmap = endpoints.get(value);
+            if (bitmap != null) {
+                bitmap.remove(jobId);
+                if (bitmap.isEmpty()) {
+                    endpoints.remove(value);
+                }
+            }
+        }
+        
+        /**
+         * Yearly [low, high] for the job, a single advertised figure becomes a point interval
+         */
+        private static BigDecimal[] yearlyInterval(JobDocument document) {
+            BigDecimal low = document.getSalaryMin() != null ? document.getSalaryMin() : document.getSalaryMax();
+            BigDecimal high = document.getSalaryMax() != null ? document.getSalaryMax() : document.getSalaryMin();
+            if (low == null) {
+                return null;
+            }
+            
+            SalaryType salaryType = document.getSalaryType() != null ? document.getSalaryType() : SalaryType.YEARLY;
+            BigDecimal yearlyLow = salaryType.toAnnual(low);
+            BigDecimal yearlyHigh = salaryType.toAnnual(high);
+            if (yearlyLow == null) {
+                return null;
+            }
+            return yearlyLow.compareTo(yearlyHigh) <= 0
+                    ? new BigDecimal[]{yearlyLow, yearlyHigh}
+                    : new BigDecimal[]{yearlyHigh, yearlyLow};
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Node-local skill to job posting lists following SRP
+ * - Each skill keeps the sorted IDs of the active jobs requiring it
+ * - Answers "any", "all" and "at least k" skill queries ranked by how many requested skills match
+ * - Shared by job search and AI recommendations
+ */
+@Component
+@Slf4j
+public class JobSkillIndex implements JobIndex {
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private SkillState state = new SkillState();
+    private volatile boolean ready = false;
+    
+    @Override
+    public void rebuild(Collection<JobDocument> activeDocuments) {
+        SkillState newState = new SkillState();
+        for (JobDocument document : activeDocuments) {
+            newState.add(document);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job skill index rebuilt with {} jobs and {} skills",
+                newState.skillsByJob.size(), newState.postings.size());
+    }
+    
+    @Override
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            state.remove(document.getId());
+            state.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Active jobs requiring at least minimumMatches of the given skills, most matched first then newest first
+     */
+    public List<SkillMatch> match(Collection<Long> skillIds, int minimumMatches) {
+        Set<Long> distinctSkillIds = new LinkedHashSet<>(skillIds);
+        if (distinctSkillIds.isEmpty() || minimumMatches > distinctSkillIds.size()) {
+            return Collections.emptyList();
+        }
+        
+        lock.readLock().lock();
+        try {
+            List<PostingList> postingLists = new ArrayList<>(distinctSkillIds.size());
+            for (Long skillId : distinctSkillIds) {
+                postingLists.add(state.postings.getOrDefault(skillId, PostingList.EMPTY));
+            }
+            
+            List<SkillMatch> matches = minimumMatches >= postingLists.size()
+                    ? intersect(postingLists)
+                    : countOverlaps(postingLists, Math.max(minimumMatches, 1));
+            matches.sort(mostMatchedFirst(state));
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Cheap upper bound on the size of {@link #match(Collection, int)} from the posting list lengths
+     */
+    public long estimateMatches(Collection<Long> skillIds, int minimumMatches) {
+        Set<Long> distinctSkillIds = new LinkedHashSet<>(skillIds);
+        if (distinctSkillIds.isEmpty() || minimumMatches > distinctSkillIds.size()) {
+            return 0L;
+        }
+        
+        lock.readLock().lock();
+        try {
+            long total = 0L;
+            long shortest = Long.MAX_VALUE;
+            for (Long skillId : distinctSkillIds) {
+                int size = state.postings.getOrDefault(skillId, PostingList.EMPTY).size();
+                total += size;
+                shortest = Math.min(shortest, size);
+            }
+            return minimumMatches >= distinctSkillIds.size() ? shortest : total / Math.max(minimumMatches, 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Candidates requiring at least minimumMatches of the given skills, in candidate order, probed one job at a time
+     */
+    public List<SkillMatch> retainMatching(List<Long> candidateJobIds, Collection<Long> skillIds, int minimumMatches) {
+        Set<Long> distinctSkillIds = new HashSet<>(skillIds);
+        int required = Math.max(minimumMatches, 1);
+        List<SkillMatch> matches = new ArrayList<>();
+        
+        lock.readLock().lock();
+        try {
+            for (Long jobId : candidateJobIds) {
+                int matched = 0;
+                for (Long skillId : state.skillsByJob.getOrDefault(jobId, Collections.emptyList())) {
+                    if (distinctSkillIds.contains(skillId)) {
+                        matched++;
+                    }
+                }
+                if (matched >= required) {
+                    matches.add(new SkillMatch(jobId, matched));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Most matched skills first, then newest first by createdAt; pooled sequence IDs are not in creation order
+     */
+    private static Comparator<SkillMatch> mostMatchedFirst(SkillState state) {
+        return Comparator.comparingInt(SkillMatch::getMatchedSkills).reversed()
+                .thenComparing((SkillMatch match) -> state.createdAt.get(match.getJobId()),
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(SkillMatch::getJobId, Comparator.reverseOrder());
+    }
+    
+    /**
+     * Jobs on every list: walk the shortest list and binary search the others
+     */
+    private static List<SkillMatch> intersect(List<PostingList> postingLists) {
+        List<PostingList> byLength = new ArrayList<>(postingLists);
+        byLength.sort(Comparator.comparingInt(PostingList::size));
+        
+        List<SkillMatch> matches = new ArrayList<>();
+        PostingList shortest = byLength.get(0);
+        for (int position = 0; position < shortest.size(); position++) {
+            long jobId = shortest.get(position);
+            boolean onEveryList = true;
+            for (int list = 1; list < byLength.size() && onEveryList; list++) {
+                onEveryList = byLength.get(list).contains(jobId);
+            }
+            if (onEveryList) {
+                matches.add(new SkillMatch(jobId, postingLists.size()));
+            }
+        }
+        return matches;
+    }
+    
+    /**
+     * Jobs on at least minimumMatches lists: k-way merge of the sorted lists counting each ID
+     */
+    private static List<SkillMatch> countOverlaps(List<PostingList> postingLists, int minimumMatches) {
+        PriorityQueue<int[]> cursors = new PriorityQueue<>(
+                Comparator.comparingLong((int[] cursor) -> postingLists.get(cursor[0]).get(cursor[1])));
+        for (int list = 0; list < postingLists.size(); list++) {
+            if (postingLists.get(list).size() > 0) {
+                cursors.add(new int[]{list, 0});
+            }
+        }
+        
+        List<SkillMatch> matches = new ArrayList<>();
+        while (!cursors.isEmpty()) {
+            long jobId = postingLists.get(cursors.peek()[0]).get(cursors.peek()[1]);
+            int count = 0;
+            while (!cursors.isEmpty() && postingLists.get(cursors.peek()[0]).get(cursors.peek()[1]) == jobId) {
+                int[] cursor = cursors.poll();
+                count++;
+                if (++cursor[1] < postingLists.get(cursor[0]).size()) {
+                    cursors.add(cursor);
+                }
+            }
+            if (count >= minimumMatches) {
+                matches.add(new SkillMatch(jobId, count));
+            }
+        }
+        return matches;
+    }
+    
+    /**
+     * Growable sorted array of job IDs
+     */
+    private static final class PostingList {
+        
+        private static final PostingList EMPTY = new PostingList();
+        
+        private long[] jobIds = new long[4];
+        private int size;
+        
+        int size() {
+            return size;
+        }
+        
+        long get(int position) {
+            return jobIds[position];
+        }
+        
+        boolean contains(long jobId) {
+            return Arrays.binarySearch(jobIds, 0, size, jobId) >= 0;
+        }
+        
+        void add(long jobId) {
+            int position = Arrays.binarySearch(jobIds, 0, size, jobId);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, size * 2);
+            }
+            System.arraycopy(jobIds, insertAt, jobIds, insertAt + 1, size - insertAt);
+            jobIds[insertAt] = jobId;
+            size++;
+        }
+        
+        void remove(long jobId) {
+            int position = Arrays.binarySearch(jobIds, 0, size, jobId);
+            if (position >= 0) {
+                System.arraycopy(jobIds, position + 1, jobIds, position, size - position - 1);
+                size--;
+            }
+        }
+    }
+    
+    /**
+     * Index content swapped as a unit on rebuild
+     */
+    private static final class SkillState {
+        
+        private final Map<Long, PostingList> postings = new HashMap<>();
+        private final Map<Long, List<Long>> skillsByJob = new HashMap<>();
+        private final Map<Long, LocalDateTime> createdAt = new HashMap<>();
+        
+        void add(JobDocument document) {
+            if (!document.isActive() || document.getSkillIds().isEmpty()) {
+                return;
+            }
+            
+            skillsByJob.put(document.getId(), document.getSkillIds());
+            createdAt.put(document.getId(), document.getCreatedAt());
+            for (Long skillId : document.getSkillIds()) {
+                postings.computeIfAbsent(skillId, key -> new PostingList()).add(document.getId());
+            }
+        }
+        
+        void remove(Long jobId) {
+            createdAt.remove(jobId);
+            List<Long> skillIds = skillsByJob.remove(jobId);
+            if (skillIds == null) {
+                return;
+            }
+            
+            for (Long skillId : skillIds) {
+                PostingList postingList = postings.get(skillId);
+                if (postingList != null) {
+                    postingList.remove(jobId);
+                    if (postingList.size() == 0) {
+                        postings.remove(skillId);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Node-local inverted index over active jobs following SRP
+ * - Indexes title, description, requirements and company name with per-field term frequencies
+ * - Every query term is matched as a prefix so results stay useful while the user types
+ * - Results are ranked by BM25F relevance, newest first on equal scores
+ * - Fuzzy searches also expand each term to indexed terms with similar trigrams, so typos still match
+ */
+@Component
+@Slf4j
+public class JobTextIndex implements JobIndex {
+    
+    /**
+     * Weight applied when a query term only matches as a prefix of an indexed term
+     */
+    private static final double PREFIX_MATCH_WEIGHT = 0.6;
+    
+    /**
+     * Weight applied to a trigram-similar term, multiplied by its similarity
+     */
+    private static final double FUZZY_MATCH_WEIGHT = 0.8;
+    
+    /**
+     * Shorter query terms have too few trigrams to be matched fuzzily
+     */
+    private static final int MIN_FUZZY_TERM_LENGTH = 4;
+    
+    private static final int FIELD_COUNT = SearchField.values().length;
+    
+    private static final Comparator<JobDocument> NEWEST_FIRST = Comparator
+            .comparing(JobDocument::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(JobDocument::getId, Comparator.reverseOrder());
+    
+    private final Bm25Scorer scorer;
+    private final double similarityThreshold;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private IndexState state = new IndexState();
+    private volatile boolean ready = false;
+    
+    public JobTextIndex(Bm25Scorer scorer,
+                        @Value("${search.fuzzy.similarity-threshold:0.4}") double similarityThreshold) {
+        this.scorer = scorer;
+        this.similarityThreshold = similarityThreshold;
+    }
+    
+    @Override
+    public void rebuild(Collection<JobDocument> activeDocuments) {
+        IndexState newState = new IndexState();
+        for (JobDocument document : activeDocuments) {
+            newState.add(document);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            state = newState;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job text index rebuilt with {} jobs and {} terms",
+                newState.documents.size(), newState.postings.size());
+    }
+    
+    @Override
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            state.remove(document.getId());
+            state.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Find active jobs containing every query term (as a prefix), most relevant first
+     */
+    public List<Long> search(String query) {
+        return search(query, false);
+    }
+    
+    /**
+     * Like {@link #search(String)}, but each term may also match indexed terms within the trigram similarity threshold
+     */
+    public List<Long> searchFuzzy(String query) {
+        return search(query, true);
+    }
+    
+    private List<Long> search(String query, boolean fuzzy) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        lock.readLock().lock();
+        try {
+            double[] averageFieldLengths = state.averageFieldLengths();
+            Map<Long, Double> scores = null;
+            
+            for (String term : new LinkedHashSet<>(terms)) {
+                Map<Long, Double> termScores = scoreTerm(term, fuzzy, averageFieldLengths);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((jobId, score) -> score + termScores.get(jobId));
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+            
+            final Map<Long, Double> finalScores = scores;
+            Comparator<JobDocument> byRelevance = Comparator
+                    .comparingDouble((JobDocument document) -> finalScores.get(document.getId()))
+                    .reversed()
+                    .thenComparing(NEWEST_FIRST);
+            
+            List<JobDocument> hits = new ArrayList<>(scores.size());
+            for (Long jobId : scores.keySet()) {
+                hits.add(state.documents.get(jobId));
+            }
+            hits.sort(byRelevance);
+            
+            List<Long> jobIds = new ArrayList<>(hits.size());
+            for (JobDocument hit : hits) {
+                jobIds.add(hit.getId());
+            }
+            return jobIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Upper bound on the hits of {@link #search(String)}: every term must match, so the rarest term bounds the result
+     */
+    public int estimateMatches(String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return 0;
+        }
+        
+        lock.readLock().lock();
+        try {
+            int estimate = state.documents.size();
+            for (String term : new LinkedHashSet<>(terms)) {
+                int termMatches = 0;
+                for (Map<Long, int[]> postingList : state.postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    termMatches += postingList.size();
+                }
+                estimate = Math.min(estimate, termMatches);
+            }
+            return estimate;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Best weighted BM25 score per job over every indexed term the query term expands to
+     */
+    private Map<Long, Double> scoreTerm(String term, boolean fuzzy, double[] averageFieldLengths) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int documentCount = state.documents.size();
+        
+        Map<String, Double> expansions = new HashMap<>();
+        for (String indexedTerm : state.postings.subMap(term, true, term + Character.MAX_VALUE, false).keySet()) {
+            expansions.put(indexedTerm, indexedTerm.equals(term) ? 1.0 : PREFIX_MATCH_WEIGHT);
+        }
+        if (fuzzy && term.length() >= MIN_FUZZY_TERM_LENGTH) {
+            similarTerms(term).forEach((similarTerm, similarity) ->
+                    expansions.merge(similarTerm, FUZZY_MATCH_WEIGHT * similarity, Math::max));
+        }
+        
+        for (Map.Entry<String, Double> expansion : expansions.entrySet()) {
+            Map<Long, int[]> postingList = state.postings.get(expansion.getKey());
+            double idf = scorer.idf(documentCount, postingList.size());
+            double weight = expansion.getValue();
+            
+            for (Map.Entry<Long, int[]> posting : postingList.entrySet()) {
+                Long jobId = posting.getKey();
+                double score = weight * scorer.score(idf, posting.getValue(),
+                        state.fieldLengths.get(jobId), averageFieldLengths);
+                termScores.merge(jobId, score, Math::max);
+            }
+        }
+        return termScores;
+    }
+    
+    /**
+     * Indexed terms whose trigram similarity to the query term reaches the threshold
+     */
+    private Map<String, Double> similarTerms(String term) {
+        Set<String> queryTrigrams = Trigrams.of(term);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String indexedTerm : state.termsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigrams.merge(indexedTerm, 1, Integer::sum);
+            }
+        }
+        
+        Map<String, Double> similar = new HashMap<>();
+        sharedTrigrams.forEach((indexedTerm, shared) -> {
+            double similarity = Trigrams.similarity(shared, queryTrigrams.size(), Trigrams.of(indexedTerm).size());
+            if (similarity >= similarityThreshold) {
+                similar.put(indexedTerm, similarity);
+            }
+        });
+        return similar;
+    }
+    
+    /**
+     * Index content swapped as a unit on rebuild
+     */
+    private static final class IndexState {
+        
+        private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+        private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+        private final Map<Long, JobDocument> documents = new HashMap<>();
+        private final Map<Long, int[]> fieldLengths = new HashMap<>();
+        private final long[] totalFieldLengths = new long[FIELD_COUNT];
+        
+        void add(JobDocument document) {
+            if (!document.isActive()) {
+                return;
+            }
+            
+            int[] lengths = new int[FIELD_COUNT];
+            for (SearchField field : SearchField.values()) {
+                List<String> tokens = SearchTokenizer.tokenize(field.textOf(document));
+                lengths[field.ordinal()] = tokens.size();
+                for (String token : tokens) {
+                    postings.computeIfAbsent(token, this::newPostingList)
+                            .computeIfAbsent(document.getId(), key -> new int[FIELD_COUNT])[field.ordinal()]++;
+                }
+            }
+            
+            documents.put(document.getId(), document);
+            fieldLengths.put(document.getId(), lengths);
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                totalFieldLengths[field] += lengths[field];
+            }
+        }
+        
+        void remove(Long jobId) {
+            JobDocument document = documents.remove(jobId);
+            if (document == null) {
+                return;
+            }
+            
+            int[] lengths = fieldLengths.remove(jobId);
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                totalFieldLengths[field] -= lengths[field];
+            }
+            
+            for (SearchField field : SearchField.values()) {
+                for (String token : SearchTokenizer.tokenize(field.textOf(document))) {
+                    Map<Long, int[]> postingList = postings.get(token);
+                    if (postingList != null) {
+                        postingList.remove(jobId);
+                        if (postingList.isEmpty()) {
+                            postings.remove(token);
+                            forgetTrigrams(token);
+                        }
+                    }
+                }
+            }
+        }
+        
+        private Map<Long, int[]> newPostingList(String term) {
+            for (String trigram : Trigrams.of(term)) {
+                termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+            }
+            return new HashMap<>();
+        }
+        
+        private void forgetTrigrams(String term) {
+            for (String trigram : Trigrams.of(term)) {
+                Set<String> terms = termsByTrigram.get(trigram);
+                if (terms != null) {
+                    terms.remove(term);
+                    if (terms.isEmpty()) {
+                        termsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+        
+        double[] averageFieldLengths() {
+            double[] averages = new double[FIELD_COUNT];
+            if (documents.isEmpty()) {
+                return averages;
+            }
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                averages[field] = (double) totalFieldLengths[field] / documents.size();
+            }
+            return averages;
+        }
+    }
+}
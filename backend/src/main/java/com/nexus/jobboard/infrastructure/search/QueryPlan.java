@@ -0,0 +1,39 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Explanation of how a combined job query was answered
+ * - INDEX plans list the driving access path first, then each intersected predicate in execution order
+ * - SQL plans carry the reason the in-memory indexes were bypassed
+ */
+@Value
+@Builder
+public class QueryPlan {
+    
+    public static final String INDEX = "INDEX";
+    public static final String SQL = "SQL";
+    
+    String accessMethod;
+    String drivingPath;
+    String reason;
+    @Builder.Default
+    List<QueryPlanStep> steps = Collections.emptyList();
+    long matchedJobs;
+    double planningMillis;
+    double elapsedMillis;
+    
+    public static QueryPlan sql(String reason, long matchedJobs, double elapsedMillis) {
+        return QueryPlan.builder()
+                .accessMethod(SQL)
+                .drivingPath("database")
+                .reason(reason)
+                .matchedJobs(matchedJobs)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
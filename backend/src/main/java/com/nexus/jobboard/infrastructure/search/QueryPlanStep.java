@@ -0,0 +1,20 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One predicate of an explained query plan
+ * - remainingJobs is null when the step was skipped because nothing was left to filter
+ */
+@Value
+@Builder
+public class QueryPlanStep {
+    
+    String predicate;
+    String accessPath;
+    boolean driving;
+    long estimatedJobs;
+    Long remainingJobs;
+    double elapsedMillis;
+}
@@ -0,0 +1,105 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.SavedSearch;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a saved search used by the percolator
+ * - Free text and location are kept as token sets, a job matches when it contains every token
+ * - Only the owner's ID is kept, contact details are read when an alert is sent so they are never stale
+ */
+@Value
+@Builder
+public class SavedQuery {
+    
+    Long id;
+    Long userId;
+    String name;
+    @Builder.Default
+    Set<String> searchTokens = Collections.emptySet();
+    @Builder.Default
+    Set<String> locationTokens = Collections.emptySet();
+    JobType jobType;
+    ExperienceLevel experienceLevel;
+    BigDecimal minSalary;
+    BigDecimal maxSalary;
+    Boolean remote;
+    Long categoryId;
+    String companyName;
+    @Builder.Default
+    Set<Long> skillIds = Collections.emptySet();
+    
+    public static SavedQuery from(SavedSearch savedSearch) {
+        return SavedQuery.builder()
+                .id(savedSearch.getId())
+                .userId(savedSearch.getUser().getId())
+                .name(savedSearch.getName())
+                .searchTokens(new LinkedHashSet<>(SearchTokenizer.tokenize(savedSearch.getSearchTerm())))
+                .locationTokens(new LinkedHashSet<>(SearchTokenizer.tokenize(savedSearch.getLocation())))
+                .jobType(savedSearch.getJobType())
+                .experienceLevel(savedSearch.getExperienceLevel())
+                .minSalary(savedSearch.getMinSalary())
+                .maxSalary(savedSearch.getMaxSalary())
+                .remote(savedSearch.getIsRemote())
+                .categoryId(savedSearch.getCategoryId())
+                .companyName(savedSearch.getCompanyName() != null && !savedSearch.getCompanyName().isBlank()
+                        ? savedSearch.getCompanyName().trim().toLowerCase(Locale.ROOT)
+                        : null)
+                .skillIds(savedSearch.getSkillIds() != null
+                        ? new LinkedHashSet<>(savedSearch.getSkillIds())
+                        : Collections.emptySet())
+                .build();
+    }
+    
+    /**
+     * Full check of every criterion against the job, salary bounds follow the /jobs/filter semantics
+     */
+    public boolean matches(JobDocument document) {
+        if (jobType != null && jobType != document.getJobType()) {
+            return false;
+        }
+        if (experienceLevel != null && experienceLevel != document.getExperienceLevel()) {
+            return false;
+        }
+        if (categoryId != null && !categoryId.equals(document.getCategoryId())) {
+            return false;
+        }
+        if (remote != null && remote != document.isRemote()) {
+            return false;
+        }
+        if (minSalary != null && (document.getSalaryMin() == null || document.getSalaryMin().compareTo(minSalary) < 0)) {
+            return false;
+        }
+        if (maxSalary != null && (document.getSalaryMax() == null || document.getSalaryMax().compareTo(maxSalary) > 0)) {
+            return false;
+        }
+        if (!skillIds.isEmpty() && document.getSkillIds().stream().noneMatch(skillIds::contains)) {
+            return false;
+        }
+        if (companyName != null && (document.getCompanyName() == null
+                || !document.getCompanyName().toLowerCase(Locale.ROOT).contains(companyName))) {
+            return false;
+        }
+        if (!locationTokens.isEmpty()
+                && !SearchTokenizer.tokenize(document.getLocation()).containsAll(locationTokens)) {
+            return false;
+        }
+        if (!searchTokens.isEmpty()) {
+            Set<String> documentTokens = new LinkedHashSet<>(SearchTokenizer.tokenize(document.getTitle()));
+            documentTokens.addAll(SearchTokenizer.tokenize(document.getDescription()));
+            documentTokens.addAll(SearchTokenizer.tokenize(document.getRequirements()));
+            documentTokens.addAll(SearchTokenizer.tokenize(document.getCompanyName()));
+            return documentTokens.containsAll(searchTokens);
+        }
+        return true;
+    }
+}
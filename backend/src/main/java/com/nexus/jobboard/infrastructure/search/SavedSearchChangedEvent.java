@@ -0,0 +1,29 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published when a saved search is created, toggled or deleted
+ * - Consumed after commit to keep the percolator in sync
+ */
+@Getter
+@RequiredArgsConstructor
+public class SavedSearchChangedEvent {
+    
+    private final Long savedSearchId;
+    // Null when the saved search was deleted or its alerts were switched off
+    private final SavedQuery query;
+    
+    public static SavedSearchChangedEvent registered(SavedQuery query) {
+        return new SavedSearchChangedEvent(query.getId(), query);
+    }
+    
+    public static SavedSearchChangedEvent removed(Long savedSearchId) {
+        return new SavedSearchChangedEvent(savedSearchId, null);
+    }
+    
+    public boolean isRemoved() {
+        return query == null;
+    }
+}
@@ -0,0 +1,263 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.repository.SavedSearchRepository;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Node-local percolator for saved searches following SRP
+ * - Inverts the usual search: saved queries are indexed and each new job is run against them
+ * - Every query is filed under its most selective term (any of its skills, else category,
+ *   else its longest location token, else job type), queries without one are always checked
+ * - A job only verifies the queries filed under its own terms, never the whole set
+ * - Local changes apply after commit; a periodic keyset reload picks up saved searches written on other nodes
+ */
+@Component
+@Slf4j
+public class SavedSearchPercolator {
+    
+    private final SavedSearchRepository savedSearchRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Queue<SavedSearchChangedEvent> pendingEvents = new ArrayDeque<>();
+    private boolean loading = false;
+    
+    private PercolatorState state = new PercolatorState();
+    private volatile boolean ready = false;
+    
+    public SavedSearchPercolator(SavedSearchRepository savedSearchRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${search.index.batch-size:500}") int batchSize) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSavedSearches() {
+        synchronized (this) {
+            loading = true;
+        }
+        
+        try {
+            PercolatorState newState = new PercolatorState();
+            loadActiveQueries(newState::add);
+            
+            synchronized (this) {
+                lock.writeLock().lock();
+                try {
+                    state = newState;
+                    ready = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                SavedSearchChangedEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    apply(event);
+                }
+            }
+            log.info("Saved search percolator loaded {} queries, {} without a selective term",
+                    newState.queries.size(), newState.unanchored.size());
+        } finally {
+            synchronized (this) {
+                loading = false;
+                pendingEvents.clear();
+            }
+        }
+    }
+    
+    /**
+     * Reload every active saved search, so searches created, toggled or deleted on other nodes are seen here too
+     */
+    @Scheduled(fixedDelayString = "${saved-search.percolator.refresh-interval-ms:60000}",
+               initialDelayString = "${saved-search.percolator.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (ready) {
+            loadSavedSearches();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        if (loading) {
+            pendingEvents.add(event);
+            return;
+        }
+        apply(event);
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Saved queries matched by the job, verified against every criterion
+     */
+    public List<SavedQuery> percolate(JobDocument document) {
+        if (!ready) {
+            return Collections.emptyList();
+        }
+        
+        lock.readLock().lock();
+        try {
+            Set<Long> candidateIds = state.candidatesFor(document);
+            List<SavedQuery> matches = new ArrayList<>();
+            for (Long candidateId : candidateIds) {
+                SavedQuery query = state.queries.get(candidateId);
+                if (query != null && query.matches(document)) {
+                    matches.add(query);
+                }
+            }
+            log.debug("Job {} verified {} of {} saved searches, {} matched",
+                    document.getId(), candidateIds.size(), state.queries.size(), matches.size());
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void apply(SavedSearchChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            state.remove(event.getSavedSearchId());
+            if (!event.isRemoved()) {
+                state.add(event.getQuery());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void loadActiveQueries(Consumer<SavedQuery> sink) {
+        long lastId = 0L;
+        
+        while (true) {
+            final long afterId = lastId;
+            List<SavedQuery> batch = readOnlyTransaction.execute(status ->
+                    savedSearchRepository.findActiveSearchesAfterId(afterId, PageRequest.ofSize(batchSize)).stream()
+                            .map(SavedQuery::from)
+                            .collect(Collectors.toList()));
+            
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            batch.forEach(sink);
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+    
+    private static final class PercolatorState {
+        
+        private final Map<Long, SavedQuery> queries = new HashMap<>();
+        private final Map<Term, Set<Long>> postings = new HashMap<>();
+        private final Set<Long> unanchored = new HashSet<>();
+        
+        void add(SavedQuery query) {
+            queries.put(query.getId(), query);
+            List<Term> terms = selectiveTerms(query);
+            if (terms.isEmpty()) {
+                unanchored.add(query.getId());
+            }
+            for (Term term : terms) {
+                postings.computeIfAbsent(term, key -> new HashSet<>()).add(query.getId());
+            }
+        }
+        
+        void remove(Long queryId) {
+            SavedQuery query = queries.remove(queryId);
+            if (query == null) {
+                return;
+            }
+            unanchored.remove(queryId);
+            for (Term term : selectiveTerms(query)) {
+                Set<Long> filed = postings.get(term);
+                if (filed != null) {
+                    filed.remove(queryId);
+                    if (filed.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+        
+        Set<Long> candidatesFor(JobDocument document) {
+            Set<Long> candidates = new LinkedHashSet<>(unanchored);
+            for (Term term : documentTerms(document)) {
+                candidates.addAll(postings.getOrDefault(term, Collections.emptySet()));
+            }
+            return candidates;
+        }
+        
+        /**
+         * Terms a query is filed under, derived only from the query so removal finds the same lists.
+         * Skills are "any of", so the query is filed under each of them.
+         */
+        private static List<Term> selectiveTerms(SavedQuery query) {
+            if (!query.getSkillIds().isEmpty()) {
+                return query.getSkillIds().stream()
+                        .map(skillId -> new Term(TermType.SKILL, skillId))
+                        .collect(Collectors.toList());
+            }
+            if (query.getCategoryId() != null) {
+                return List.of(new Term(TermType.CATEGORY, query.getCategoryId()));
+            }
+            if (!query.getLocationTokens().isEmpty()) {
+                String longestToken = query.getLocationTokens().stream()
+                        .max(Comparator.comparingInt(String::length))
+                        .orElseThrow();
+                return List.of(new Term(TermType.LOCATION, longestToken));
+            }
+            if (query.getJobType() != null) {
+                return List.of(new Term(TermType.JOB_TYPE, query.getJobType()));
+            }
+            return Collections.emptyList();
+        }
+        
+        private static List<Term> documentTerms(JobDocument document) {
+            List<Term> terms = new ArrayList<>();
+            document.getSkillIds().forEach(skillId -> terms.add(new Term(TermType.SKILL, skillId)));
+            if (document.getCategoryId() != null) {
+                terms.add(new Term(TermType.CATEGORY, document.getCategoryId()));
+            }
+            SearchTokenizer.tokenize(document.getLocation())
+                    .forEach(token -> terms.add(new Term(TermType.LOCATION, token)));
+            if (document.getJobType() != null) {
+                terms.add(new Term(TermType.JOB_TYPE, document.getJobType()));
+            }
+            return terms;
+        }
+    }
+    
+    private enum TermType {
+        SKILL,
+        CATEGORY,
+        LOCATION,
+        JOB_TYPE
+    }
+    
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Term {
+        private final TermType type;
+        private final Object value;
+    }
+}
@@ -0,0 +1,24 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import java.util.function.Function;
+
+/**
+ * Searchable job fields enumeration following SRP
+ * - Single responsibility: Define which document text feeds each scored field
+ */
+public enum SearchField {
+    TITLE(JobDocument::getTitle),
+    DESCRIPTION(JobDocument::getDescription),
+    REQUIREMENTS(JobDocument::getRequirements),
+    COMPANY_NAME(JobDocument::getCompanyName);
+    
+    private final Function<JobDocument, String> extractor;
+    
+    SearchField(Function<JobDocument, String> extractor) {
+        this.extractor = extractor;
+    }
+    
+    public String textOf(JobDocument document) {
+        return extractor.apply(document);
+    }
+}
@@ -0,0 +1,261 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import com.nexus.jobboard.domain.model.JobType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Shared search result cache in Redis following SRP
+ * - Pages of database-backed /jobs/search and /jobs/filter queries are cached per query family
+ * - Families are filed in buckets by job type, category and remote flag, so a job write only reads the
+ *   families it could belong to, before or after the change; the TTL is only a safety net
+ * - An epoch bumped on every job write stops a page computed before the write from being stored after
+ *   it, whether or not its family was registered yet; the epoch compare and the store run as one Lua script
+ * - Redis failures degrade to uncached database queries
+ */
+@Component
+@Slf4j
+public class SearchResultCache {
+    
+    // One hash tag, so the multi-key scripts stay on one slot under Redis Cluster
+    private static final String KEY_PREFIX = "{job-search-cache}:";
+    private static final String FAMILIES_KEY = KEY_PREFIX + "families";
+    private static final String BUCKET_KEY_PREFIX = KEY_PREFIX + "bucket:";
+    private static final String PAGES_KEY_PREFIX = KEY_PREFIX + "pages:";
+    private static final String PAGE_KEY_PREFIX = KEY_PREFIX + "page:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+    private static final String ANY = "*";
+    
+    /**
+     * Stores the page and registers its family only while the epoch still equals the one read before the query
+     */
+    private static final RedisScript<Long> PUT_IF_EPOCH = new DefaultRedisScript<>(
+            "if tonumber(redis.call('get', KEYS[1]) or '0') ~= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('set', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+            "redis.call('sadd', KEYS[3], KEYS[2]) " +
+            "redis.call('pexpire', KEYS[3], ARGV[3]) " +
+            "redis.call('hset', KEYS[4], ARGV[4], ARGV[5]) " +
+            "redis.call('sadd', KEYS[5], ARGV[4]) " +
+            "return 1", Long.class);
+    
+    /**
+     * Drops every page of a family and its registry entries
+     */
+    private static final RedisScript<Long> EVICT_FAMILY = new DefaultRedisScript<>(
+            "local pages = redis.call('smembers', KEYS[1]) " +
+            "for _, page in ipairs(pages) do redis.call('del', page) end " +
+            "redis.call('del', KEYS[1]) " +
+            "redis.call('hdel', KEYS[2], ARGV[1]) " +
+            "redis.call('srem', KEYS[3], ARGV[1]) " +
+            "return #pages", Long.class);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final boolean enabled;
+    private final int maxFamilies;
+    private final Duration ttl;
+    
+    public SearchResultCache(RedisTemplate<String, String> stringRedisTemplate,
+                             @Value("${search.cache.enabled:true}") boolean enabled,
+                             @Value("${search.cache.max-families:5000}") int maxFamilies,
+                             @Value("${search.cache.safety-ttl-minutes:360}") long ttlMinutes) {
+        this.redisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.maxFamilies = maxFamilies;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+    
+    /**
+     * Current invalidation epoch, read before running the query that will be cached
+     */
+    public long currentEpoch() {
+        if (!enabled) {
+            return 0L;
+        }
+        try {
+            String epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+            return epoch != null ? Long.parseLong(epoch) : 0L;
+        } catch (RuntimeException e) {
+            log.warn("Search cache unavailable, reading epoch failed: {}", e.getMessage());
+            return -1L;
+        }
+    }
+    
+    public Optional<CachedJobPage> get(CachedSearchCriteria criteria, Pageable pageable) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            String page = redisTemplate.opsForValue().get(pageKey(criteria, pageable));
+            return page != null ? Optional.of(fromJson(page, CachedJobPage.class)) : Optional.empty();
+        } catch (RuntimeException e) {
+            log.warn("Search cache unavailable, reading page failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Stores the page unless a job write invalidated the cache since readEpoch was taken
+     */
+    public void put(CachedSearchCriteria criteria, Pageable pageable, CachedJobPage page, long readEpoch) {
+        if (!enabled || readEpoch < 0) {
+            return;
+        }
+        try {
+            String family = criteria.familyKey();
+            if (!redisTemplate.opsForHash().hasKey(FAMILIES_KEY, family)
+                    && redisTemplate.opsForHash().size(FAMILIES_KEY) >= maxFamilies
+                    && pruneExpiredFamilies() == 0) {
+                return;
+            }
+            
+            redisTemplate.execute(PUT_IF_EPOCH,
+                    List.of(EPOCH_KEY, pageKey(criteria, pageable), PAGES_KEY_PREFIX + family, FAMILIES_KEY,
+                            bucketKey(criteria.getJobType(), criteria.getCategoryId(), criteria.getIsRemote())),
+                    String.valueOf(readEpoch), toJson(page), String.valueOf(ttl.toMillis()), family, toJson(criteria));
+        } catch (RuntimeException e) {
+            log.warn("Search cache unavailable, storing page failed: {}", e.getMessage());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // Bumped on every change, a page read before this write may belong to a family not registered yet
+            redisTemplate.opsForValue().increment(EPOCH_KEY);
+            
+            JobDocument previous = event.getPreviousDocument();
+            JobDocument current = event.getDocument();
+            
+            Set<String> buckets = candidateBuckets(current);
+            if (previous != null) {
+                buckets.addAll(candidateBuckets(previous));
+            }
+            
+            Map<String, String> affected = new LinkedHashMap<>();
+            for (String bucket : buckets) {
+                List<String> families = new ArrayList<>(membersOf(bucket));
+                if (families.isEmpty()) {
+                    continue;
+                }
+                List<Object> registered = redisTemplate.opsForHash().multiGet(FAMILIES_KEY, new ArrayList<>(families));
+                for (int index = 0; index < families.size(); index++) {
+                    CachedSearchCriteria criteria = toCriteria(registered.get(index));
+                    if (criteria == null || criteria.couldMatch(current)
+                            || (previous != null && criteria.couldMatch(previous))) {
+                        affected.put(families.get(index), bucket);
+                    }
+                }
+            }
+            
+            if (!affected.isEmpty()) {
+                affected.forEach(this::evictFamily);
+                log.debug("Job {} {} evicted {} cached search families from {} buckets",
+                        event.getJobId(), event.getChangeType(), affected.size(), buckets.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Search cache invalidation failed for job {}: {}", event.getJobId(), e.getMessage());
+        }
+    }
+    
+    private void evictFamily(String family, String bucket) {
+        redisTemplate.execute(EVICT_FAMILY, List.of(PAGES_KEY_PREFIX + family, FAMILIES_KEY, bucket), family);
+    }
+    
+    /**
+     * Drops registry entries whose pages all expired, returns how many were removed.
+     * Only runs once the registry is full, so reading it whole stays off the common path.
+     */
+    private int pruneExpiredFamilies() {
+        int pruned = 0;
+        for (Map.Entry<Object, Object> family : redisTemplate.opsForHash().entries(FAMILIES_KEY).entrySet()) {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(PAGES_KEY_PREFIX + family.getKey()))) {
+                continue;
+            }
+            CachedSearchCriteria criteria = toCriteria(family.getValue());
+            String bucket = criteria != null
+                    ? bucketKey(criteria.getJobType(), criteria.getCategoryId(), criteria.getIsRemote())
+                    : bucketKey(null, null, null);
+            evictFamily((String) family.getKey(), bucket);
+            pruned++;
+        }
+        return pruned;
+    }
+    
+    private Set<String> membersOf(String bucket) {
+        Set<String> members = redisTemplate.opsForSet().members(bucket);
+        return members != null ? members : Collections.emptySet();
+    }
+    
+    /**
+     * Every bucket holding families the job could match: each attribute is either unconstrained or the job's value
+     */
+    private static Set<String> candidateBuckets(JobDocument document) {
+        Set<String> buckets = new LinkedHashSet<>();
+        for (JobType jobType : Arrays.asList(null, document.getJobType())) {
+            for (Long categoryId : Arrays.asList(null, document.getCategoryId())) {
+                for (Boolean remote : Arrays.asList(null, document.isRemote())) {
+                    buckets.add(bucketKey(jobType, categoryId, remote));
+                }
+            }
+        }
+        return buckets;
+    }
+    
+    private static String bucketKey(JobType jobType, Long categoryId, Boolean remote) {
+        return BUCKET_KEY_PREFIX + (jobType != null ? jobType.name() : ANY)
+                + ":" + (categoryId != null ? categoryId.toString() : ANY)
+                + ":" + (remote != null ? remote.toString() : ANY);
+    }
+    
+    private static String pageKey(CachedSearchCriteria criteria, Pageable pageable) {
+        String paging = pageable.isPaged()
+                ? pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort()
+                : "unpaged";
+        return PAGE_KEY_PREFIX + criteria.familyKey() + ":" + paging;
+    }
+    
+    /**
+     * Registry entries that no longer deserialise are treated as matching every job, so they get evicted
+     */
+    private CachedSearchCriteria toCriteria(Object registered) {
+        if (!(registered instanceof String)) {
+            return null;
+        }
+        try {
+            return fromJson((String) registered, CachedSearchCriteria.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private String toJson(Object value) {
+        return new String(json.serialize(value), StandardCharsets.UTF_8);
+    }
+    
+    private <T> T fromJson(String value, Class<T> type) {
+        return json.deserialize(value.getBytes(StandardCharsets.UTF_8), type);
+    }
+}
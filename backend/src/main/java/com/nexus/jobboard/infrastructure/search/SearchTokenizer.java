@@ -0,0 +1,33 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer shared by the search indexes
+ * - Lower-cases and splits on anything that is not a letter, digit, '+' or '#'
+ *   so that terms like "c++" and "c#" survive
+ */
+public final class SearchTokenizer {
+    
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    
+    private SearchTokenizer() {
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
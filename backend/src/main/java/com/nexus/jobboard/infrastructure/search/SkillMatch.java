@@ -0,0 +1,13 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import lombok.Value;
+
+/**
+ * A job found through the skill index with the number of requested skills it requires
+ */
+@Value
+public class SkillMatch {
+    
+    Long jobId;
+    int matchedSkills;
+}
@@ -0,0 +1,176 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix trie of weighted suggestions
+ * - Children are stored as sorted char arrays and found by binary search
+ * - Every node keeps the best suggestions below it, so a lookup is one walk down the prefix
+ */
+public final class SuggestionTrie {
+    
+    private final SuggestionType type;
+    private final String[] texts;
+    private final long[] weights;
+    private final Node root;
+    
+    private SuggestionTrie(SuggestionType type, String[] texts, long[] weights, Node root) {
+        this.type = type;
+        this.texts = texts;
+        this.weights = weights;
+        this.root = root;
+    }
+    
+    public static Builder builder(SuggestionType type) {
+        return new Builder(type);
+    }
+    
+    /**
+     * Best suggestions starting with the prefix, highest weight first
+     */
+    public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+        Node node = root;
+        String key = normalize(prefix);
+        for (int index = 0; index < key.length() && node != null; index++) {
+            node = node.child(key.charAt(index));
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        
+        int count = Math.min(limit, node.top.length);
+        List<AutocompleteSuggestion> suggestions = new ArrayList<>(count);
+        for (int rank = 0; rank < count; rank++) {
+            int entry = node.top[rank];
+            suggestions.add(new AutocompleteSuggestion(texts[entry], type, weights[entry]));
+        }
+        return suggestions;
+    }
+    
+    public int size() {
+        return texts.length;
+    }
+    
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+    
+    private static final class Node {
+        
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        
+        private final char[] labels;
+        private final Node[] children;
+        private final int[] top;
+        
+        private Node(char[] labels, Node[] children, int[] top) {
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+        
+        Node child(char label) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (labels[middle] < label) {
+                    low = middle + 1;
+                } else if (labels[middle] > label) {
+                    high = middle - 1;
+                } else {
+                    return children[middle];
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Collects suggestions, merging weights of texts that normalise to the same key
+     */
+    public static final class Builder {
+        
+        private final SuggestionType type;
+        private final Map<String, String> textByKey = new HashMap<>();
+        private final Map<String, Long> weightByKey = new HashMap<>();
+        
+        private Builder(SuggestionType type) {
+            this.type = type;
+        }
+        
+        public Builder add(String text, long weight) {
+            String key = normalize(text);
+            if (!key.isEmpty()) {
+                textByKey.putIfAbsent(key, text.trim().replaceAll("\\s+", " "));
+                weightByKey.merge(key, weight, Long::sum);
+            }
+            return this;
+        }
+        
+        public SuggestionTrie build(int suggestionsPerNode) {
+            List<String> keys = new ArrayList<>(textByKey.keySet());
+            Collections.sort(keys);
+            
+            String[] texts = new String[keys.size()];
+            long[] weights = new long[keys.size()];
+            BuildNode root = new BuildNode();
+            for (int entry = 0; entry < keys.size(); entry++) {
+                String key = keys.get(entry);
+                texts[entry] = textByKey.get(key);
+                weights[entry] = weightByKey.get(key);
+                
+                BuildNode node = root;
+                for (int index = 0; index < key.length(); index++) {
+                    node = node.children.computeIfAbsent(key.charAt(index), label -> new BuildNode());
+                }
+                node.entry = entry;
+            }
+            
+            Comparator<Integer> bestFirst = Comparator
+                    .comparingLong((Integer entry) -> weights[entry]).reversed()
+                    .thenComparing(entry -> texts[entry]);
+            return new SuggestionTrie(type, texts, weights, root.freeze(bestFirst, suggestionsPerNode));
+        }
+    }
+    
+    private static final class BuildNode {
+        
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private int entry = -1;
+        
+        Node freeze(Comparator<Integer> bestFirst, int suggestionsPerNode) {
+            char[] labels = children.isEmpty() ? Node.NO_LABELS : new char[children.size()];
+            Node[] frozen = children.isEmpty() ? Node.NO_CHILDREN : new Node[children.size()];
+            List<Integer> candidates = new ArrayList<>();
+            if (entry >= 0) {
+                candidates.add(entry);
+            }
+            
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> child : children.entrySet()) {
+                labels[index] = child.getKey();
+                frozen[index] = child.getValue().freeze(bestFirst, suggestionsPerNode);
+                for (int candidate : frozen[index].top) {
+                    candidates.add(candidate);
+                }
+                index++;
+            }
+            
+            candidates.sort(bestFirst);
+            int[] top = new int[Math.min(candidates.size(), suggestionsPerNode)];
+            for (int rank = 0; rank < top.length; rank++) {
+                top[rank] = candidates.get(rank);
+            }
+            return new Node(labels, frozen, top);
+        }
+    }
+}
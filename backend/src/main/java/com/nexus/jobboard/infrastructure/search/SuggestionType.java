@@ -0,0 +1,22 @@
+package com.nexus.jobboard.infrastructure.search;
+
+/**
+ * Suggestion type enumeration following SRP
+ * - Single responsibility: Define the sources the autocomplete suggests from
+ */
+public enum SuggestionType {
+    JOB_TITLE("Words and phrases from active job titles"),
+    SKILL("Skill names"),
+    COMPANY("Companies with active jobs"),
+    LOCATION("Locations of active jobs");
+    
+    private final String description;
+    
+    SuggestionType(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,33 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Trigram helpers shared by the fuzzy matchers
+ * - Terms are padded like pg_trgm ("  term ") so short words and word starts still yield trigrams
+ * - Similarity is the Jaccard ratio of the two trigram sets
+ */
+public final class Trigrams {
+    
+    private Trigrams() {
+    }
+    
+    public static Set<String> of(String term) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (term == null || term.isEmpty()) {
+            return trigrams;
+        }
+        
+        String padded = "  " + term + " ";
+        for (int start = 0; start + 3 <= padded.length(); start++) {
+            trigrams.add(padded.substring(start, start + 3));
+        }
+        return trigrams;
+    }
+    
+    public static double similarity(int sharedTrigrams, int firstCount, int secondCount) {
+        int union = firstCount + secondCount - sharedTrigrams;
+        return union == 0 ? 0.0 : (double) sharedTrigrams / union;
+    }
+}
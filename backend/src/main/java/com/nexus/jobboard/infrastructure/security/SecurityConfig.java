@@ -47,11 +47,22 @@ public class SecurityConfig {
                                         "/auth/**",
                                         "/jobs",
                                         "/jobs/{id}",
+                                        "/jobs/summary",
+                                        "/jobs/cursor",
                                         "/jobs/search",
+                                        "/jobs/search/summary",
+                                        "/jobs/search/slice",
                                         "/jobs/filter",
+                                        "/jobs/filter/summary",
+                                        "/jobs/filter/slice",
+                                        "/jobs/filter/faceted",
                                         "/jobs/company/{id}",
+                                        "/jobs/company/{id}/summary",
                                         "/jobs/category/{id}",
                                         "/jobs/skills",
+                                        "/jobs/skills/slice",
+                                        "/jobs/query",
+                                        "/autocomplete",
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**",
                                         "/swagger-ui.html",
@@ -61,6 +72,7 @@ public class SecurityConfig {
                                 .requestMatchers("/admin/**").hasRole("ADMIN")
                                 .requestMatchers("/jobs/my-jobs", "/jobs/recommendations").hasAnyRole("ADMIN", "EMPLOYER", "JOB_SEEKER")
                                 .requestMatchers("/jobs", "/jobs/{id}").hasAnyRole("ADMIN", "EMPLOYER")
+                                .requestMatchers("/jobs/export").hasAnyRole("ADMIN", "EMPLOYER")
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -0,0 +1,43 @@
+package com.nexus.jobboard.presentation.controller;
+
+import com.nexus.jobboard.application.service.AutocompleteService;
+import com.nexus.jobboard.infrastructure.search.AutocompleteSuggestion;
+import com.nexus.jobboard.infrastructure.search.SuggestionType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Autocomplete controller following SRP
+ * - Single responsibility: Serve type-ahead suggestions for the search box
+ * - Depends on service abstractions (DIP)
+ */
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Autocomplete", description = "Search box type-ahead endpoints")
+public class AutocompleteController {
+    
+    private final AutocompleteService autocompleteService;
+    
+    @GetMapping
+    @Operation(summary = "Autocomplete", description = "Suggest job titles, skills, companies and locations starting with the prefix, most popular first")
+    public ResponseEntity<List<AutocompleteSuggestion>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Set<SuggestionType> types,
+            @RequestParam(defaultValue = "8") int limit) {
+        log.debug("Autocomplete for prefix: {} (types: {})", prefix, types);
+        
+        return ResponseEntity.ok(autocompleteService.suggest(prefix, types, limit));
+    }
+}
@@ -2,6 +2,7 @@ package com.nexus.jobboard.presentation.controller;
 
 import com.nexus.jobboard.application.dto.request.JobApplicationRequest;
 import com.nexus.jobboard.application.dto.request.ApplicationStatusUpdateRequest;
+import com.nexus.jobboard.application.dto.response.CursorPage;
 import com.nexus.jobboard.application.dto.response.JobApplicationResponse;
 import com.nexus.jobboard.application.service.JobApplicationService;
 import com.nexus.jobboard.domain.model.ApplicationStatus;
@@ -20,6 +21,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Map;
+
 /**
  * Job application controller following SRP
  * - Single responsibility: Handle job application endpoints
@@ -103,6 +106,28 @@ public class JobApplicationController {
         return ResponseEntity.ok(applications);
     }
     
+    @GetMapping("/job/{jobId}/cursor")
+    @Operation(summary = "Get applications for job by cursor", description = "Get applications for a job newest first with an opaque continuation token and no total count (Employer/Admin only)")
+    @PreAuthorize("hasRole('ADMIN') or @jobService.getJobById(#jobId).orElse(null)?.postedBy?.id == authentication.principal.id")
+    public ResponseEntity<CursorPage<JobApplicationResponse>> getApplicationsByJobCursor(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Getting applications for job: {} by cursor with status: {}", jobId, status);
+        
+        try {
+            CursorPage<JobApplicationResponse> applications =
+                    jobApplicationService.getApplicationsByJob(jobId, status, cursor, size);
+            log.info("Retrieved {} applications for job: {}, hasNext: {}",
+                    applications.getSize(), jobId, applications.isHasNext());
+            return ResponseEntity.ok(applications);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected application cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @GetMapping("/my-applications")
     @Operation(summary = "Get my applications", description = "Get applications submitted by the authenticated user")
     @PreAuthorize("hasRole('JOB_SEEKER')")
@@ -172,6 +197,18 @@ public class JobApplicationController {
         return ResponseEntity.ok(count);
     }
     
+    @GetMapping("/stats/job/{jobId}/by-status")
+    @Operation(summary = "Get application counts by status for job", description = "Get the application count of every status for a job")
+    @PreAuthorize("hasRole('ADMIN') or @jobService.getJobById(#jobId).orElse(null)?.postedBy?.id == authentication.principal.id")
+    public ResponseEntity<Map<ApplicationStatus, Integer>> getApplicationCountsByStatus(@PathVariable Long jobId) {
+        log.info("Getting application counts by status for job: {}", jobId);
+        
+        Map<ApplicationStatus, Integer> counts = jobApplicationService.getApplicationCountsByStatus(jobId);
+        log.info("Application counts for job {}: {}", jobId, counts);
+        
+        return ResponseEntity.ok(counts);
+    }
+    
     @GetMapping("/stats/my-applications-count")
     @Operation(summary = "Get my application count", description = "Get total application count for authenticated user")
     @PreAuthorize("hasRole('JOB_SEEKER')")
@@ -1,27 +1,47 @@
 package com.nexus.jobboard.presentation.controller;
 
+import com.nexus.jobboard.application.dto.request.ExportFormat;
+import com.nexus.jobboard.application.dto.request.GeoFilterRequest;
 import com.nexus.jobboard.application.dto.request.JobCreateRequest;
+import com.nexus.jobboard.application.dto.request.JobSearchRequest;
 import com.nexus.jobboard.application.dto.request.JobUpdateRequest;
+import com.nexus.jobboard.application.dto.request.SalaryMatchMode;
+import com.nexus.jobboard.application.dto.request.SearchStrategy;
+import com.nexus.jobboard.application.dto.request.SkillMatchMode;
+import com.nexus.jobboard.application.dto.response.CursorPage;
+import com.nexus.jobboard.application.dto.response.FacetedJobsResponse;
+import com.nexus.jobboard.application.dto.response.JobQueryResponse;
 import com.nexus.jobboard.application.dto.response.JobResponse;
+import com.nexus.jobboard.application.dto.response.JobSummaryResponse;
+import com.nexus.jobboard.application.dto.response.SliceResponse;
+import com.nexus.jobboard.application.service.JobExportService;
 import com.nexus.jobboard.application.service.JobService;
 import com.nexus.jobboard.domain.model.JobType;
 import com.nexus.jobboard.domain.model.ExperienceLevel;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Job controller following SRP
@@ -36,6 +56,10 @@ import java.util.List;
 public class JobController {
     
     private final JobService jobService;
+    private final JobExportService jobExportService;
+    
+    @Value("${jobs.export.timeout:30m}")
+    private Duration exportTimeout;
     
     @PostMapping
     @Operation(summary = "Create new job", description = "Create a new job posting (Employer/Admin only)")
@@ -74,6 +98,34 @@ public class JobController {
         return ResponseEntity.ok(jobs);
     }
     
+    @GetMapping("/summary")
+    @Operation(summary = "Get active job summaries", description = "Retrieve active jobs as lightweight list rows with pagination")
+    public ResponseEntity<Page<JobSummaryResponse>> getActiveJobSummaries(Pageable pageable) {
+        log.info("Getting active job summaries with pagination");
+        
+        Page<JobSummaryResponse> jobs = jobService.getActiveJobSummaries(pageable);
+        log.info("Retrieved {} active job summaries", jobs.getTotalElements());
+        
+        return ResponseEntity.ok(jobs);
+    }
+    
+    @GetMapping("/cursor")
+    @Operation(summary = "Get active jobs by cursor", description = "Retrieve active jobs newest first with an opaque continuation token and no total count")
+    public ResponseEntity<CursorPage<JobResponse>> getActiveJobsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Getting active jobs by cursor with size: {}", size);
+        
+        try {
+            CursorPage<JobResponse> jobs = jobService.getAllActiveJobs(cursor, size);
+            log.info("Retrieved {} active jobs, hasNext: {}", jobs.getSize(), jobs.isHasNext());
+            return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected job cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @GetMapping("/{jobId}")
     @Operation(summary = "Get job by ID", description = "Retrieve job details by ID")
     public ResponseEntity<JobResponse> getJobById(@PathVariable Long jobId) {
@@ -117,32 +169,147 @@ public class JobController {
     @Operation(summary = "Search jobs", description = "Search jobs by title, description, or company name")
     public ResponseEntity<Page<JobResponse>> searchJobs(
             @RequestParam String query,
+            @RequestParam(required = false) SearchStrategy strategy,
             Pageable pageable) {
-        log.info("Searching jobs with query: {}", query);
+        log.info("Searching jobs with query: {} (strategy: {})", query, strategy);
         
-        Page<JobResponse> jobs = jobService.searchJobs(query, pageable);
+        Page<JobResponse> jobs = jobService.searchJobs(query, strategy, pageable);
         log.info("Found {} jobs matching query: {}", jobs.getTotalElements(), query);
         
         return ResponseEntity.ok(jobs);
     }
     
+    @GetMapping("/search/summary")
+    @Operation(summary = "Search job summaries", description = "Search jobs by title, description, or company name returning lightweight list rows")
+    public ResponseEntity<Page<JobSummaryResponse>> searchJobSummaries(
+            @RequestParam String query,
+            @RequestParam(required = false) SearchStrategy strategy,
+            Pageable pageable) {
+        log.info("Searching job summaries with query: {} (strategy: {})", query, strategy);
+        
+        Page<JobSummaryResponse> jobs = jobService.searchJobSummaries(query, strategy, pageable);
+        log.info("Found {} job summaries matching query: {}", jobs.getTotalElements(), query);
+        
+        return ResponseEntity.ok(jobs);
+    }
+    
+    @GetMapping("/search/slice")
+    @Operation(summary = "Search jobs without total count", description = "Search jobs returning a hasNext flag instead of a total count; approximateTotal adds a rough count")
+    public ResponseEntity<SliceResponse<JobResponse>> searchJobsSlice(
+            @RequestParam String query,
+            @RequestParam(required = false) SearchStrategy strategy,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            Pageable pageable) {
+        log.info("Searching jobs (slice) with query: {} (strategy: {})", query, strategy);
+        
+        SliceResponse<JobResponse> jobs = jobService.searchJobsSlice(query, strategy, approximateTotal, pageable);
+        log.info("Found {} jobs matching query: {}, hasNext: {}", jobs.getSize(), query, jobs.isHasNext());
+        
+        return ResponseEntity.ok(jobs);
+    }
+    
     @GetMapping("/filter")
-    @Operation(summary = "Filter jobs", description = "Filter jobs by various criteria")
+    @Operation(summary = "Filter jobs", description = "Filter jobs by various criteria; salaryMatch=OVERLAPS matches yearly salary ranges overlapping minSalary-maxSalary; " +
+            "near or latitude/longitude with radiusKm, or a min/max latitude/longitude box, restrict by area and sortByDistance orders nearest first")
     public ResponseEntity<Page<JobResponse>> filterJobs(
             @RequestParam(required = false) String location,
             @RequestParam(required = false) JobType jobType,
             @RequestParam(required = false) ExperienceLevel experienceLevel,
             @RequestParam(required = false) BigDecimal minSalary,
             @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(defaultValue = "WITHIN") SalaryMatchMode salaryMatch,
+            @RequestParam(required = false) Boolean isRemote,
+            @RequestParam(required = false) Long categoryId,
+            @ModelAttribute GeoFilterRequest geo,
+            Pageable pageable) {
+        log.info("Filtering jobs with criteria - location: {}, jobType: {}, experienceLevel: {}, salaryMatch: {}, geo: {}", 
+                location, jobType, experienceLevel, salaryMatch, geo);
+        
+        try {
+            Page<JobResponse> jobs = jobService.getJobsByFilters(location, jobType, experienceLevel,
+                    minSalary, maxSalary, salaryMatch, isRemote, categoryId, geo, pageable);
+            log.info("Found {} jobs matching filters", jobs.getTotalElements());
+            
+            return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected job filter request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/filter/faceted")
+    @Operation(summary = "Filter jobs with facet counts", description = "Filter jobs and return counts per job type, experience level, remote flag, category and salary band; " +
+            "salaryMatch=OVERLAPS matches yearly salary ranges overlapping minSalary-maxSalary, for the jobs and the counts")
+    public ResponseEntity<FacetedJobsResponse> filterJobsWithFacets(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) JobType jobType,
+            @RequestParam(required = false) ExperienceLevel experienceLevel,
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(defaultValue = "WITHIN") SalaryMatchMode salaryMatch,
+            @RequestParam(required = false) Boolean isRemote,
+            @RequestParam(required = false) Long categoryId,
+            Pageable pageable) {
+        log.info("Filtering jobs with facets - location: {}, jobType: {}, experienceLevel: {}", 
+                location, jobType, experienceLevel);
+        
+        FacetedJobsResponse response = jobService.getJobsByFiltersWithFacets(
+                location, jobType, experienceLevel, minSalary, maxSalary, salaryMatch, isRemote, categoryId, pageable);
+        log.info("Found {} jobs matching filters", response.getJobs().getTotalElements());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/filter/summary")
+    @Operation(summary = "Filter job summaries", description = "Filter jobs by the same criteria as /jobs/filter, salaryMatch and area filters included, " +
+            "returning lightweight list rows")
+    public ResponseEntity<Page<JobSummaryResponse>> filterJobSummaries(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) JobType jobType,
+            @RequestParam(required = false) ExperienceLevel experienceLevel,
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(defaultValue = "WITHIN") SalaryMatchMode salaryMatch,
+            @RequestParam(required = false) Boolean isRemote,
+            @RequestParam(required = false) Long categoryId,
+            @ModelAttribute GeoFilterRequest geo,
+            Pageable pageable) {
+        log.info("Filtering job summaries with criteria - location: {}, jobType: {}, experienceLevel: {}, salaryMatch: {}, geo: {}", 
+                location, jobType, experienceLevel, salaryMatch, geo);
+        
+        try {
+            Page<JobSummaryResponse> jobs = jobService.getJobSummariesByFilters(location, jobType, experienceLevel,
+                    minSalary, maxSalary, salaryMatch, isRemote, categoryId, geo, pageable);
+            log.info("Found {} job summaries matching filters", jobs.getTotalElements());
+            
+            return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected job summary filter request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/filter/slice")
+    @Operation(summary = "Filter jobs without total count", description = "Filter jobs returning a hasNext flag instead of a total count; approximateTotal adds a rough count; " +
+            "salaryMatch=OVERLAPS matches yearly salary ranges overlapping minSalary-maxSalary")
+    public ResponseEntity<SliceResponse<JobResponse>> filterJobsSlice(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) JobType jobType,
+            @RequestParam(required = false) ExperienceLevel experienceLevel,
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(defaultValue = "WITHIN") SalaryMatchMode salaryMatch,
             @RequestParam(required = false) Boolean isRemote,
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
             Pageable pageable) {
-        log.info("Filtering jobs with criteria - location: {}, jobType: {}, experienceLevel: {}", 
+        log.info("Filtering jobs (slice) with criteria - location: {}, jobType: {}, experienceLevel: {}", 
                 location, jobType, experienceLevel);
         
-        Page<JobResponse> jobs = jobService.getJobsByFilters(
-                location, jobType, experienceLevel, minSalary, maxSalary, isRemote, categoryId, pageable);
-        log.info("Found {} jobs matching filters", jobs.getTotalElements());
+        SliceResponse<JobResponse> jobs = jobService.getJobsByFiltersSlice(
+                location, jobType, experienceLevel, minSalary, maxSalary, salaryMatch, isRemote, categoryId,
+                approximateTotal, pageable);
+        log.info("Found {} jobs matching filters, hasNext: {}", jobs.getSize(), jobs.isHasNext());
         
         return ResponseEntity.ok(jobs);
     }
@@ -160,6 +327,19 @@ public class JobController {
         return ResponseEntity.ok(jobs);
     }
     
+    @GetMapping("/company/{companyId}/summary")
+    @Operation(summary = "Get job summaries by company", description = "Retrieve a company's active jobs as lightweight list rows")
+    public ResponseEntity<Page<JobSummaryResponse>> getJobSummariesByCompany(
+            @PathVariable Long companyId,
+            Pageable pageable) {
+        log.info("Getting job summaries for company: {}", companyId);
+        
+        Page<JobSummaryResponse> jobs = jobService.getJobSummariesByCompany(companyId, pageable);
+        log.info("Retrieved {} job summaries for company: {}", jobs.getTotalElements(), companyId);
+        
+        return ResponseEntity.ok(jobs);
+    }
+    
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "Get jobs by category", description = "Retrieve jobs in a specific category")
     public ResponseEntity<Page<JobResponse>> getJobsByCategory(
@@ -174,14 +354,85 @@ public class JobController {
     }
     
     @GetMapping("/skills")
-    @Operation(summary = "Get jobs by skills", description = "Find jobs that require specific skills")
+    @Operation(summary = "Get jobs by skills", description = "Find jobs requiring any, all or at least minimumMatches of the given skills, most matched first")
     public ResponseEntity<Page<JobResponse>> getJobsBySkills(
             @RequestParam List<Long> skillIds,
+            @RequestParam(defaultValue = "ANY") SkillMatchMode match,
+            @RequestParam(required = false) Integer minimumMatches,
+            Pageable pageable) {
+        log.info("Getting jobs for skills: {} (match: {}, minimumMatches: {})", skillIds, match, minimumMatches);
+        
+        try {
+            Page<JobResponse> jobs = jobService.getJobsBySkills(skillIds, match, minimumMatches, pageable);
+            log.info("Retrieved {} jobs for skills: {}", jobs.getTotalElements(), skillIds);
+            
+            return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected skill match request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/query")
+    @Operation(summary = "Query jobs", description = "Combine free text, skills and filters in one query, explain=true returns the chosen plan with timings")
+    public ResponseEntity<JobQueryResponse> queryJobs(
+            @ModelAttribute JobSearchRequest criteria,
+            @RequestParam(defaultValue = "ANY") SkillMatchMode skillMatch,
+            @RequestParam(required = false) Integer minimumMatches,
+            @RequestParam(defaultValue = "false") boolean explain,
+            Pageable pageable) {
+        log.info("Querying jobs with criteria: {} (skillMatch: {}, explain: {})", criteria, skillMatch, explain);
+        
+        try {
+            JobQueryResponse response = jobService.queryJobs(criteria, skillMatch, minimumMatches, explain, pageable);
+            log.info("Query matched {} jobs", response.getJobs().getTotalElements());
+            
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected job query request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Export jobs", description = "Stream every active job matching the criteria as NDJSON or CSV in one response")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('EMPLOYER')")
+    @SecurityRequirement(name = "bearerAuth")
+    public WebAsyncTask<Void> exportJobs(
+            @ModelAttribute JobSearchRequest criteria,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) {
+        log.info("Exporting jobs as {} with criteria: {}", format, criteria);
+        
+        if (!criteria.isValidSalaryRange()) {
+            log.warn("Rejected job export request: minSalary is greater than maxSalary");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minSalary must not be greater than maxSalary");
+        }
+        
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("jobs." + format.name().toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+        
+        // Only the export may outlive the default async timeout, it lasts as long as the catalogue takes to write
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            long rows = jobExportService.exportJobs(criteria, format, response.getOutputStream());
+            log.info("Exported {} jobs as {}", rows, format);
+            return null;
+        });
+    }
+    
+    @GetMapping("/skills/slice")
+    @Operation(summary = "Get jobs by skills without total count", description = "Find jobs requiring specific skills returning a hasNext flag instead of a total count")
+    public ResponseEntity<SliceResponse<JobResponse>> getJobsBySkillsSlice(
+            @RequestParam List<Long> skillIds,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
             Pageable pageable) {
-        log.info("Getting jobs for skills: {}", skillIds);
+        log.info("Getting jobs (slice) for skills: {}", skillIds);
         
-        Page<JobResponse> jobs = jobService.getJobsBySkills(skillIds, pageable);
-        log.info("Retrieved {} jobs for skills: {}", jobs.getTotalElements(), skillIds);
+        SliceResponse<JobResponse> jobs = jobService.getJobsBySkillsSlice(skillIds, approximateTotal, pageable);
+        log.info("Retrieved {} jobs for skills: {}, hasNext: {}", jobs.getSize(), skillIds, jobs.isHasNext());
         
         return ResponseEntity.ok(jobs);
     }
@@ -0,0 +1,107 @@
+package com.nexus.jobboard.presentation.controller;
+
+import com.nexus.jobboard.application.dto.request.SavedSearchRequest;
+import com.nexus.jobboard.application.dto.response.SavedSearchResponse;
+import com.nexus.jobboard.application.dto.response.UserResponse;
+import com.nexus.jobboard.application.service.SavedSearchService;
+import com.nexus.jobboard.application.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Saved search controller following SRP
+ * - Single responsibility: Handle saved search and job alert endpoints
+ * - Depends on service abstractions (DIP)
+ */
+@RestController
+@RequestMapping("/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN') or hasRole('JOB_SEEKER')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Saved Searches", description = "Saved search and new job alert endpoints")
+public class SavedSearchController {
+    
+    private final SavedSearchService savedSearchService;
+    private final UserService userService;
+    
+    @PostMapping
+    @Operation(summary = "Save search", description = "Save search criteria and get alerted when new matching jobs are posted")
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(
+            @Valid @RequestBody SavedSearchRequest request,
+            Authentication authentication) {
+        log.info("Saving search '{}' for: {}", request.getName(), authentication.getName());
+        
+        Optional<Long> userId = findCurrentUserId(authentication);
+        if (userId.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        try {
+            SavedSearchResponse response = savedSearchService.createSavedSearch(request, userId.get());
+            log.info("Search saved successfully with ID: {}", response.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected saved search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get my saved searches", description = "Retrieve the authenticated user's saved searches")
+    public ResponseEntity<List<SavedSearchResponse>> getSavedSearches(Authentication authentication) {
+        log.info("Getting saved searches for: {}", authentication.getName());
+        
+        return findCurrentUserId(authentication)
+                .map(userId -> ResponseEntity.ok(savedSearchService.getSavedSearches(userId)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PutMapping("/{savedSearchId}/alerts")
+    @Operation(summary = "Toggle alerts", description = "Switch new job alerts for a saved search on or off")
+    public ResponseEntity<SavedSearchResponse> setAlertsEnabled(
+            @PathVariable Long savedSearchId,
+            @RequestParam boolean enabled,
+            Authentication authentication) {
+        log.info("Setting alerts {} for saved search: {}", enabled ? "on" : "off", savedSearchId);
+        
+        return findCurrentUserId(authentication)
+                .map(userId -> ResponseEntity.ok(savedSearchService.setAlertsEnabled(savedSearchId, userId, enabled)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @DeleteMapping("/{savedSearchId}")
+    @Operation(summary = "Delete saved search", description = "Delete a saved search and stop its alerts")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @PathVariable Long savedSearchId,
+            Authentication authentication) {
+        log.info("Deleting saved search: {}", savedSearchId);
+        
+        Optional<Long> userId = findCurrentUserId(authentication);
+        if (userId.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        savedSearchService.deleteSavedSearch(savedSearchId, userId.get());
+        log.info("Saved search deleted successfully: {}", savedSearchId);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
+    private Optional<Long> findCurrentUserId(Authentication authentication) {
+        return userService.getUserByEmailOrPhone(authentication.getName())
+                .map(UserResponse::getId);
+    }
+}
@@ -1,6 +1,8 @@
 package com.nexus.jobboard.presentation.controller;
 
+import com.nexus.jobboard.application.dto.request.SearchStrategy;
 import com.nexus.jobboard.application.dto.request.UserUpdateRequest;
+import com.nexus.jobboard.application.dto.response.CursorPage;
 import com.nexus.jobboard.application.dto.response.UserResponse;
 import com.nexus.jobboard.application.service.UserService;
 import com.nexus.jobboard.domain.model.UserRole;
@@ -87,15 +89,34 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all users by cursor", description = "Retrieve users newest first with an opaque continuation token and no total count (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<UserResponse>> getAllUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Getting users by cursor with size: {}", size);
+        
+        try {
+            CursorPage<UserResponse> users = userService.getAllUsers(cursor, size);
+            log.info("Retrieved {} users, hasNext: {}", users.getSize(), users.isHasNext());
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected user cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @GetMapping("/search")
     @Operation(summary = "Search users", description = "Search users by name or email (Admin only)")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<UserResponse>> searchUsers(
             @RequestParam String query,
+            @RequestParam(required = false) SearchStrategy strategy,
             Pageable pageable) {
-        log.info("Searching users with query: {}", query);
+        log.info("Searching users with query: {} (strategy: {})", query, strategy);
         
-        Page<UserResponse> users = userService.searchUsers(query, pageable);
+        Page<UserResponse> users = userService.searchUsers(query, strategy, pageable);
         log.info("Found {} users matching query: {}", users.getTotalElements(), query);
         
         return ResponseEntity.ok(users);
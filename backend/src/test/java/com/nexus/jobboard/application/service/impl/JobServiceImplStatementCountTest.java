@@ -0,0 +1,172 @@
+package com.nexus.jobboard.application.service.impl;
+
+import com.nexus.jobboard.application.dto.response.JobResponse;
+import com.nexus.jobboard.application.mapper.CompanyMapperImpl;
+import com.nexus.jobboard.application.mapper.JobCategoryMapperImpl;
+import com.nexus.jobboard.application.mapper.JobMapperImpl;
+import com.nexus.jobboard.application.mapper.SkillMapperImpl;
+import com.nexus.jobboard.application.mapper.UserMapperImpl;
+import com.nexus.jobboard.application.service.AIService;
+import com.nexus.jobboard.domain.model.Company;
+import com.nexus.jobboard.domain.model.ExperienceLevel;
+import com.nexus.jobboard.domain.model.Job;
+import com.nexus.jobboard.domain.model.JobCategory;
+import com.nexus.jobboard.domain.model.JobType;
+import com.nexus.jobboard.domain.model.Skill;
+import com.nexus.jobboard.domain.model.User;
+import com.nexus.jobboard.domain.model.UserRole;
+import com.nexus.jobboard.infrastructure.datasource.PrimaryReadTemplate;
+import com.nexus.jobboard.infrastructure.geo.Gazetteer;
+import com.nexus.jobboard.infrastructure.search.JobFacetIndex;
+import com.nexus.jobboard.infrastructure.search.JobGeoIndex;
+import com.nexus.jobboard.infrastructure.search.JobQueryPlanner;
+import com.nexus.jobboard.infrastructure.search.JobSalaryIndex;
+import com.nexus.jobboard.infrastructure.search.JobSkillIndex;
+import com.nexus.jobboard.infrastructure.search.JobTextIndex;
+import com.nexus.jobboard.infrastructure.search.SearchResultCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression test for page materialisation in JobServiceImpl.toResponses
+ * - Every job on the page has its own company, category, poster and skills, the worst case for N+1 selects
+ * - The statement count must not grow with the page size
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ActiveProfiles("test")
+@Import({JobServiceImpl.class, JobMapperImpl.class, UserMapperImpl.class, CompanyMapperImpl.class,
+        JobCategoryMapperImpl.class, SkillMapperImpl.class, PrimaryReadTemplate.class})
+class JobServiceImplStatementCountTest {
+    
+    private static final int JOBS = 25;
+    private static final int PAGE_SIZE = 20;
+    
+    /**
+     * Page query, count query, company, category and poster batches, one skill batch, two grouped count queries
+     */
+    private static final long MAX_PAGE_STATEMENTS = 8;
+    
+    @Autowired
+    private JobServiceImpl jobService;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @MockBean
+    private AIService aiService;
+    
+    @MockBean
+    private JobTextIndex jobTextIndex;
+    
+    @MockBean
+    private JobFacetIndex jobFacetIndex;
+    
+    @MockBean
+    private JobSkillIndex jobSkillIndex;
+    
+    @MockBean
+    private JobSalaryIndex jobSalaryIndex;
+    
+    @MockBean
+    private JobGeoIndex jobGeoIndex;
+    
+    @MockBean
+    private JobQueryPlanner jobQueryPlanner;
+    
+    @MockBean
+    private Gazetteer gazetteer;
+    
+    @MockBean
+    private SearchResultCache searchResultCache;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        for (int index = 0; index < JOBS; index++) {
+            User employer = entityManager.persist(User.builder()
+                    .email("employer" + index + "@example.com")
+                    .password("secret")
+                    .firstName("Employer")
+                    .lastName(String.valueOf(index))
+                    .role(UserRole.EMPLOYER)
+                    .build());
+            Company company = entityManager.persist(Company.builder()
+                    .name("Company " + index)
+                    .createdBy(employer)
+                    .build());
+            JobCategory category = entityManager.persist(JobCategory.builder()
+                    .name("Category " + index)
+                    .build());
+            Skill primary = entityManager.persist(Skill.builder().name("Skill " + index + "a").build());
+            Skill secondary = entityManager.persist(Skill.builder().name("Skill " + index + "b").build());
+            
+            entityManager.persist(Job.builder()
+                    .title("Job " + index)
+                    .description("Description " + index)
+                    .company(company)
+                    .category(category)
+                    .jobType(JobType.FULL_TIME)
+                    .experienceLevel(ExperienceLevel.MID_LEVEL)
+                    .postedBy(employer)
+                    .requiredSkills(new ArrayList<>(List.of(primary, secondary)))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @Test
+    void fullPageIssuesBoundedNumberOfStatements() {
+        long statements = statementsFor(PAGE_SIZE);
+        
+        assertThat(statements).isLessThanOrEqualTo(MAX_PAGE_STATEMENTS);
+    }
+    
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        long singleItemPage = statementsFor(1);
+        long fullPage = statementsFor(PAGE_SIZE);
+        
+        assertThat(fullPage).isEqualTo(singleItemPage);
+    }
+    
+    private long statementsFor(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+        
+        Page<JobResponse> page = jobService.getAllActiveJobs(PageRequest.of(0, pageSize));
+        
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(job -> {
+            assertThat(job.getCompany().getActiveJobCount()).isEqualTo(1);
+            assertThat(job.getCategory().getJobCount()).isEqualTo(1);
+            assertThat(job.getRequiredSkills()).hasSize(2);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
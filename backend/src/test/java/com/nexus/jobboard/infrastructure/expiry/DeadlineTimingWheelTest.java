@@ -0,0 +1,147 @@
+package com.nexus.jobboard.infrastructure.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DeadlineTimingWheel firing order
+ * - A small wheel of 4 slots over 3 levels (64 ticks) cascades every few ticks, the scheduler's
+ *   shape of 64 slots over 4 levels covers deadlines exactly 64^k ticks ahead
+ * - Time is advanced one tick at a time, every job has to come out exactly once at its deadline's tick
+ */
+class DeadlineTimingWheelTest {
+    
+    private static final long TICK = 1_000;
+    
+    @Test
+    void everyDeadlineFiresOnceAtItsTick() {
+        for (long startTick : new long[] {0, 1, 3, 4, 15, 16, 63, 64, 1_000}) {
+            DeadlineTimingWheel wheel = new DeadlineTimingWheel(TICK, 2, 3, startTick * TICK);
+            Map<Long, Long> expected = new HashMap<>();
+            for (long offset = 0; offset < 64; offset++) {
+                long tick = startTick + offset;
+                assertThat(wheel.schedule(tick, tick * TICK)).isTrue();
+                expected.put(tick, tick);
+                // A deadline inside a tick rounds up to the tick it ends in
+                long jobId = 10_000 + tick;
+                assertThat(wheel.schedule(jobId, tick * TICK - TICK / 2)).isTrue();
+                expected.put(jobId, tick);
+            }
+            assertThat(wheel.size()).isEqualTo(expected.size());
+            
+            assertThat(runTicks(wheel, startTick, startTick + 200)).isEqualTo(expected);
+            assertThat(wheel.size()).isZero();
+        }
+    }
+    
+    @Test
+    void deadlinesExactlyPowersOfTheSlotCountAhead() {
+        for (long startTick : new long[] {0, 5, 64 * 64 - 1}) {
+            DeadlineTimingWheel wheel = new DeadlineTimingWheel(TICK, 6, 4, startTick * TICK);
+            Map<Long, Long> expected = new HashMap<>();
+            long jobId = 0;
+            for (long ahead = 64; ahead <= 64 * 64 * 64; ahead *= 64) {
+                for (long tick : new long[] {startTick + ahead - 1, startTick + ahead, startTick + ahead + 1}) {
+                    assertThat(wheel.schedule(++jobId, tick * TICK)).isTrue();
+                    expected.put(jobId, tick);
+                }
+            }
+            // 64^4 ticks is the wheel's span, the caller keeps those deadlines
+            long span = 64L * 64 * 64 * 64;
+            assertThat(wheel.schedule(++jobId, (startTick + span) * TICK)).isFalse();
+            assertThat(wheel.schedule(++jobId, (startTick + span - 1) * TICK)).isTrue();
+            assertThat(wheel.size()).isEqualTo(expected.size() + 1);
+            
+            assertThat(runTicks(wheel, startTick, startTick + 64 * 64 * 64 + 64)).isEqualTo(expected);
+            assertThat(wheel.size()).isEqualTo(1);
+        }
+    }
+    
+    @Test
+    void reschedulingMovesAnEntryOutOfAHigherLevel() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(TICK, 2, 3, 0);
+        // All three sit in the top level, 16 or more ticks ahead
+        wheel.schedule(1, 50 * TICK);
+        wheel.schedule(2, 40 * TICK);
+        wheel.schedule(3, 60 * TICK);
+        assertThat(runTicks(wheel, 0, 9)).isEmpty();
+        
+        // Earlier, into level 0 of the current turn
+        assertThat(wheel.schedule(1, 12 * TICK)).isTrue();
+        // Later, still in the top level but another slot
+        assertThat(wheel.schedule(2, 70 * TICK)).isTrue();
+        // Beyond the span, dropped from the wheel
+        assertThat(wheel.schedule(3, 80 * TICK)).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+        
+        assertThat(runTicks(wheel, 10, 100)).isEqualTo(Map.of(1L, 12L, 2L, 70L));
+        assertThat(wheel.size()).isZero();
+    }
+    
+    @Test
+    void passedDeadlineFiresOnTheNextAdvance() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(TICK, 2, 3, 100 * TICK);
+        // Already passed when the wheel starts
+        wheel.schedule(1, 10 * TICK);
+        assertThat(wheel.advance(100 * TICK)).containsExactly(1L);
+        
+        runTicks(wheel, 101, 120);
+        // Passed after the wheel moved on, the next tick is 121
+        wheel.schedule(2, 105 * TICK);
+        wheel.schedule(3, 120 * TICK);
+        assertThat(wheel.advance(120 * TICK + TICK / 2)).isEmpty();
+        assertThat(wheel.advance(121 * TICK)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(wheel.size()).isZero();
+    }
+    
+    @Test
+    void cancelledEntriesNeverFire() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(TICK, 2, 3, 0);
+        wheel.schedule(1, 2 * TICK);
+        wheel.schedule(2, 9 * TICK);
+        wheel.schedule(3, 40 * TICK);
+        wheel.schedule(4, 40 * TICK);
+        
+        assertThat(wheel.cancel(1)).isTrue();
+        assertThat(wheel.cancel(3)).isTrue();
+        assertThat(wheel.cancel(3)).isFalse();
+        assertThat(wheel.cancel(5)).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+        
+        assertThat(runTicks(wheel, 0, 63)).isEqualTo(Map.of(2L, 9L, 4L, 40L));
+        assertThat(wheel.cancel(2)).isFalse();
+    }
+    
+    @Test
+    void oneAdvanceOverManyTicksReturnsEveryDueJobOnce() {
+        DeadlineTimingWheel wheel = new DeadlineTimingWheel(TICK, 2, 3, 7 * TICK);
+        for (long jobId = 1; jobId <= 60; jobId++) {
+            wheel.schedule(jobId, (7 + jobId) * TICK);
+        }
+        
+        List<Long> firstBatch = wheel.advance(37 * TICK);
+        List<Long> secondBatch = wheel.advance(200 * TICK);
+        
+        assertThat(firstBatch).hasSize(30).doesNotHaveDuplicates().allMatch(jobId -> jobId <= 30);
+        assertThat(secondBatch).hasSize(30).doesNotHaveDuplicates().allMatch(jobId -> jobId > 30);
+        assertThat(wheel.advance(300 * TICK)).isEmpty();
+    }
+    
+    /**
+     * Advances one tick at a time over [fromTick, toTick], returning the tick each job fired at
+     */
+    private static Map<Long, Long> runTicks(DeadlineTimingWheel wheel, long fromTick, long toTick) {
+        Map<Long, Long> fired = new HashMap<>();
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            for (Long jobId : wheel.advance(tick * TICK)) {
+                assertThat(fired.put(jobId, tick)).as("job %d fired twice", jobId).isNull();
+            }
+        }
+        return fired;
+    }
+}
@@ -0,0 +1,165 @@
+package com.nexus.jobboard.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Opt-in insert throughput benchmark on PostgreSQL, run with -Dbenchmark.inserts=true
+ * - Persists the same rows into an IDENTITY table, and into a pooled sequence table one statement per row
+ *   and in JDBC batches, and logs rows per second for each run
+ * - Both tables have the same columns, only the key generation differs
+ * - Every run is rolled back, only the sequence advances
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark.inserts", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Slf4j
+class InsertThroughputBenchmarkTest {
+    
+    private static final int ROWS = Integer.getInteger("benchmark.inserts.rows", 10_000);
+    private static final int WARM_UP_ROWS = Math.min(ROWS, 1_000);
+    private static final int BATCH_SIZE = 50;
+    
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+    
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        // Same driver settings as the application datasource
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void comparesIdentityAndPooledSequenceInserts() {
+        // Warm-up so connection setup and statement preparation do not count against the first run
+        measure(IdentityBenchmarkRow::new, BATCH_SIZE, WARM_UP_ROWS);
+        measure(SequenceBenchmarkRow::new, BATCH_SIZE, WARM_UP_ROWS);
+        
+        double identity = measure(IdentityBenchmarkRow::new, BATCH_SIZE, ROWS);
+        double sequenceUnbatched = measure(SequenceBenchmarkRow::new, 1, ROWS);
+        double sequenceBatched = measure(SequenceBenchmarkRow::new, BATCH_SIZE, ROWS);
+        log.info("Insert benchmark over {} rows: {} rows/s with IDENTITY keys, {} rows/s with pooled sequence keys "
+                        + "one statement per row, {} rows/s with pooled sequence keys in JDBC batches of {}",
+                ROWS, Math.round(identity), Math.round(sequenceUnbatched), Math.round(sequenceBatched), BATCH_SIZE);
+        
+        assertThat(identity).isPositive();
+        assertThat(sequenceUnbatched).isPositive();
+        assertThat(sequenceBatched).isPositive();
+    }
+    
+    /**
+     * Inserts the rows in one rolled back transaction, flushing every batch, returns rows per second
+     */
+    private double measure(Supplier<BenchmarkRow> rowFactory, int jdbcBatchSize, int count) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long elapsedNanos = transaction.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            long started = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                BenchmarkRow row = rowFactory.get();
+                row.setName("benchmark-" + i);
+                row.setDescription("Insert benchmark row");
+                entityManager.persist(row);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            long elapsed = System.nanoTime() - started;
+            
+            entityManager.clear();
+            status.setRollbackOnly();
+            return elapsed;
+        });
+        return elapsedNanos == null || elapsedNanos == 0 ? 0.0 : count / (elapsedNanos / 1_000_000_000.0);
+    }
+    
+    @MappedSuperclass
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    abstract static class BenchmarkRow {
+        
+        @Column(nullable = false)
+        private String name;
+        
+        private String description;
+    }
+    
+    /**
+     * Key generation the entities used before pooled sequences, every persist is an immediate INSERT
+     */
+    @Entity
+    @Table(name = "benchmark_identity_rows")
+    @Getter
+    @NoArgsConstructor
+    static class IdentityBenchmarkRow extends BenchmarkRow {
+        
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+    }
+    
+    /**
+     * Key generation the entities use now, same allocation size as the production sequences
+     */
+    @Entity
+    @Table(name = "benchmark_sequence_rows")
+    @Getter
+    @NoArgsConstructor
+    static class SequenceBenchmarkRow extends BenchmarkRow {
+        
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_sequence_rows_seq")
+        @SequenceGenerator(name = "benchmark_sequence_rows_seq", sequenceName = "benchmark_sequence_rows_seq",
+                allocationSize = 50)
+        private Long id;
+    }
+}
@@ -0,0 +1,222 @@
+package com.nexus.jobboard.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JobIdBitmap against a TreeSet reference
+ * - Container boundaries: IDs either side of a 65536 key step, and 4095/4096/4097 values per container
+ *   around the array to bitmap conversion
+ * - Set operations over mixed array and bitmap containers, removals converting bitmaps back to arrays
+ */
+class JobIdBitmapTest {
+    
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final long CONTAINER = 1L << 16;
+    
+    @Test
+    void idsOnContainerBoundaries() {
+        NavigableSet<Long> expected = new TreeSet<>(List.of(
+                0L, 1L, CONTAINER - 1, CONTAINER, CONTAINER + 1, 2 * CONTAINER - 1, 2 * CONTAINER, 5 * CONTAINER + 7));
+        JobIdBitmap bitmap = JobIdBitmap.of(expected);
+        
+        assertMatches(bitmap, expected);
+        assertThat(bitmap.contains(2)).isFalse();
+        assertThat(bitmap.contains(CONTAINER - 2)).isFalse();
+        assertThat(bitmap.contains(3 * CONTAINER)).isFalse();
+    }
+    
+    @Test
+    void containerSizesAroundArrayLimit() {
+        for (int size : new int[] {ARRAY_CONTAINER_MAX - 1, ARRAY_CONTAINER_MAX, ARRAY_CONTAINER_MAX + 1}) {
+            // Consecutive values in one container, and values spread over the whole container
+            NavigableSet<Long> consecutive = new TreeSet<>();
+            NavigableSet<Long> spread = new TreeSet<>();
+            for (int index = 0; index < size; index++) {
+                consecutive.add(CONTAINER + index);
+                spread.add(3 * CONTAINER + (index * 13L) % CONTAINER);
+            }
+            
+            assertMatches(JobIdBitmap.of(consecutive), consecutive);
+            assertMatches(JobIdBitmap.of(spread), spread);
+            
+            // Same values added in descending order, every insert lands at the front of the array
+            JobIdBitmap descending = new JobIdBitmap();
+            consecutive.descendingSet().forEach(descending::add);
+            assertMatches(descending, consecutive);
+        }
+    }
+    
+    @Test
+    void addingExistingIdsKeepsCardinality() {
+        NavigableSet<Long> expected = new TreeSet<>();
+        JobIdBitmap bitmap = new JobIdBitmap();
+        for (long id = 0; id <= ARRAY_CONTAINER_MAX; id++) {
+            bitmap.add(id);
+            bitmap.add(id);
+            expected.add(id);
+        }
+        
+        assertMatches(bitmap, expected);
+    }
+    
+    @Test
+    void removalsShrinkBitmapContainerBackToArray() {
+        NavigableSet<Long> expected = new TreeSet<>();
+        for (long id = 0; id < ARRAY_CONTAINER_MAX + 1; id++) {
+            expected.add(CONTAINER + id * 7);
+        }
+        JobIdBitmap bitmap = JobIdBitmap.of(expected);
+        assertMatches(bitmap, expected);
+        
+        // 4097 -> 4096 converts to an array container, which must still answer like the reference
+        Long first = expected.pollFirst();
+        bitmap.remove(first);
+        assertMatches(bitmap, expected);
+        
+        // Back over the limit, then down again from the middle
+        expected.add(first);
+        bitmap.add(first);
+        assertMatches(bitmap, expected);
+        
+        Random random = new Random(42);
+        List<Long> ids = new ArrayList<>(expected);
+        while (!ids.isEmpty()) {
+            Long id = ids.remove(random.nextInt(ids.size()));
+            bitmap.remove(id);
+            expected.remove(id);
+            if (expected.size() % 512 == 0 || expected.size() >= ARRAY_CONTAINER_MAX - 2) {
+                assertMatches(bitmap, expected);
+            }
+        }
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.cardinality()).isZero();
+    }
+    
+    @Test
+    void removingAbsentIdsChangesNothing() {
+        NavigableSet<Long> expected = new TreeSet<>(List.of(5L, CONTAINER + 5));
+        JobIdBitmap bitmap = JobIdBitmap.of(expected);
+        
+        bitmap.remove(6);
+        bitmap.remove(2 * CONTAINER + 5);
+        
+        assertMatches(bitmap, expected);
+    }
+    
+    @Test
+    void setOperationsMatchReference() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            NavigableSet<Long> left = randomIds(random);
+            NavigableSet<Long> right = randomIds(random);
+            JobIdBitmap leftBitmap = JobIdBitmap.of(left);
+            JobIdBitmap rightBitmap = JobIdBitmap.of(right);
+            
+            NavigableSet<Long> intersection = new TreeSet<>(left);
+            intersection.retainAll(right);
+            NavigableSet<Long> union = new TreeSet<>(left);
+            union.addAll(right);
+            NavigableSet<Long> difference = new TreeSet<>(left);
+            difference.removeAll(right);
+            
+            assertMatches(leftBitmap.and(rightBitmap), intersection);
+            assertThat(leftBitmap.andCardinality(rightBitmap)).isEqualTo(intersection.size());
+            assertThat(rightBitmap.andCardinality(leftBitmap)).isEqualTo(intersection.size());
+            assertMatches(leftBitmap.or(rightBitmap), union);
+            assertMatches(leftBitmap.andNot(rightBitmap), difference);
+            
+            // Operations return new bitmaps, the operands stay as they were
+            assertMatches(leftBitmap, left);
+            assertMatches(rightBitmap, right);
+            
+            JobIdBitmap inPlace = leftBitmap.copy();
+            assertThat(inPlace.orInPlace(rightBitmap)).isSameAs(inPlace);
+            assertMatches(inPlace, union);
+            assertMatches(leftBitmap, left);
+            assertMatches(rightBitmap, right);
+        }
+    }
+    
+    @Test
+    void orInPlaceOfTwoArraysOverflowsIntoBitmap() {
+        NavigableSet<Long> evens = new TreeSet<>();
+        NavigableSet<Long> odds = new TreeSet<>();
+        for (long value = 0; value < 2 * ARRAY_CONTAINER_MAX - 2; value++) {
+            (value % 2 == 0 ? evens : odds).add(value);
+        }
+        NavigableSet<Long> union = new TreeSet<>(evens);
+        union.addAll(odds);
+        
+        JobIdBitmap bitmap = JobIdBitmap.of(evens);
+        bitmap.orInPlace(JobIdBitmap.of(odds));
+        assertMatches(bitmap, union);
+        
+        // The union is a bitmap container now; removing every odd value shrinks it back
+        odds.forEach(bitmap::remove);
+        assertMatches(bitmap, evens);
+    }
+    
+    @Test
+    void copyIsIndependent() {
+        NavigableSet<Long> expected = new TreeSet<>();
+        for (long id = 0; id <= ARRAY_CONTAINER_MAX; id++) {
+            expected.add(id);
+        }
+        expected.add(CONTAINER + 1);
+        JobIdBitmap original = JobIdBitmap.of(expected);
+        
+        JobIdBitmap copy = original.copy();
+        copy.remove(0);
+        copy.remove(CONTAINER + 1);
+        copy.add(2 * CONTAINER);
+        
+        assertMatches(original, expected);
+        assertThat(copy.contains(0)).isFalse();
+        assertThat(copy.contains(2 * CONTAINER)).isTrue();
+    }
+    
+    @Test
+    void emptyBitmap() {
+        JobIdBitmap empty = new JobIdBitmap();
+        JobIdBitmap other = JobIdBitmap.of(List.of(1L, CONTAINER));
+        
+        assertMatches(empty, new TreeSet<>());
+        assertMatches(empty.and(other), new TreeSet<>());
+        assertMatches(other.and(empty), new TreeSet<>());
+        assertMatches(empty.or(other), new TreeSet<>(List.of(1L, CONTAINER)));
+        assertMatches(other.andNot(other), new TreeSet<>());
+    }
+    
+    /**
+     * IDs over four containers, each one randomly sparse, around the array limit or dense
+     */
+    private static NavigableSet<Long> randomIds(Random random) {
+        NavigableSet<Long> ids = new TreeSet<>();
+        for (long key = 0; key < 4; key++) {
+            int[] sizes = {0, 10, ARRAY_CONTAINER_MAX - 1, ARRAY_CONTAINER_MAX, ARRAY_CONTAINER_MAX + 1, 20_000};
+            int size = sizes[random.nextInt(sizes.length)];
+            while (ids.subSet(key * CONTAINER, (key + 1) * CONTAINER).size() < size) {
+                ids.add(key * CONTAINER + random.nextInt((int) CONTAINER));
+            }
+        }
+        return ids;
+    }
+    
+    private static void assertMatches(JobIdBitmap bitmap, NavigableSet<Long> expected) {
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertThat(bitmap.isEmpty()).isEqualTo(expected.isEmpty());
+        assertThat(bitmap.toDescendingList()).containsExactlyElementsOf(expected.descendingSet());
+        for (Long id : expected) {
+            assertThat(bitmap.contains(id)).as("contains %d", id).isTrue();
+            assertThat(bitmap.contains(id + 1)).as("contains %d", id + 1).isEqualTo(expected.contains(id + 1));
+        }
+    }
+}
@@ -7,6 +7,9 @@
 -- Enable UUID extension for PostgreSQL
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
+-- Enable trigram matching for typo-tolerant search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Create indexes for better performance
 -- These will be created by JPA, but we can add custom ones here
 
@@ -24,10 +27,21 @@ ON jobs(location, job_type) WHERE is_active = true;
 CREATE INDEX IF NOT EXISTS idx_job_salary_range 
 ON jobs(salary_min, salary_max) WHERE is_active = true AND salary_min IS NOT NULL;
 
+-- Expiry sweep, oldest passed deadline first
+CREATE INDEX IF NOT EXISTS idx_job_active_deadline 
+ON jobs(application_deadline, id) WHERE is_active = true AND application_deadline IS NOT NULL;
+
 -- Application status tracking index
 CREATE INDEX IF NOT EXISTS idx_application_status_date 
 ON job_applications(status, applied_at DESC);
 
+-- Keyset pagination indexes (ORDER BY timestamp DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_application_job_date 
+ON job_applications(job_id, applied_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_user_created 
+ON users(created_at DESC, id DESC);
+
 -- User search optimization
 CREATE INDEX IF NOT EXISTS idx_user_name_search 
 ON users USING gin(to_tsvector('english', first_name || ' ' || last_name));
@@ -36,6 +50,115 @@ ON users USING gin(to_tsvector('english', first_name || ' ' || last_name));
 CREATE INDEX IF NOT EXISTS idx_company_search 
 ON companies USING gin(to_tsvector('english', name || ' ' || COALESCE(description, '')));
 
+-- Gazetteer coordinates (production runs with ddl-auto=validate)
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+ALTER TABLE companies ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE companies ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+
+CREATE INDEX IF NOT EXISTS idx_job_geo 
+ON jobs(latitude, longitude);
+
+-- Typo-tolerant search optimization
+CREATE INDEX IF NOT EXISTS idx_job_title_trgm 
+ON jobs USING gin(title gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_company_name_trgm 
+ON companies USING gin(name gin_trgm_ops);
+
+-- Saved searches for new job alerts (production runs with ddl-auto=validate)
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    name VARCHAR(255) NOT NULL,
+    search_term VARCHAR(255),
+    location VARCHAR(255),
+    job_type VARCHAR(255),
+    experience_level VARCHAR(255),
+    min_salary NUMERIC(38, 2),
+    max_salary NUMERIC(38, 2),
+    is_remote BOOLEAN,
+    category_id BIGINT,
+    company_name VARCHAR(255),
+    is_active BOOLEAN,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS saved_search_skills (
+    saved_search_id BIGINT NOT NULL REFERENCES saved_searches(id) ON DELETE CASCADE,
+    skill_id BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_search_user 
+ON saved_searches(user_id);
+
+CREATE INDEX IF NOT EXISTS idx_saved_search_active 
+ON saved_searches(is_active);
+
+-- Maintained active job count per skill (production runs with ddl-auto=validate)
+ALTER TABLE skills ADD COLUMN IF NOT EXISTS active_job_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE skills s SET active_job_count = (
+    SELECT COUNT(*) FROM job_skills js JOIN jobs j ON j.id = js.job_id
+    WHERE js.skill_id = s.id AND j.is_active = true
+);
+
+CREATE INDEX IF NOT EXISTS idx_skill_active_job_count 
+ON skills(active_job_count DESC) WHERE is_active = true;
+
+-- Maintained application counters per job (production runs with ddl-auto=validate)
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS pending_application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS reviewing_application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS shortlisted_application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS interview_application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS rejected_application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS accepted_application_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS withdrawn_application_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE jobs j SET
+    application_count = c.total,
+    pending_application_count = c.pending,
+    reviewing_application_count = c.reviewing,
+    shortlisted_application_count = c.shortlisted,
+    interview_application_count = c.interview_scheduled,
+    rejected_application_count = c.rejected,
+    accepted_application_count = c.accepted,
+    withdrawn_application_count = c.withdrawn
+FROM (
+    SELECT job_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE status = 'PENDING') AS pending,
+           COUNT(*) FILTER (WHERE status = 'REVIEWING') AS reviewing,
+           COUNT(*) FILTER (WHERE status = 'SHORTLISTED') AS shortlisted,
+           COUNT(*) FILTER (WHERE status = 'INTERVIEW_SCHEDULED') AS interview_scheduled,
+           COUNT(*) FILTER (WHERE status = 'REJECTED') AS rejected,
+           COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+           COUNT(*) FILTER (WHERE status = 'WITHDRAWN') AS withdrawn
+    FROM job_applications
+    GROUP BY job_id
+) c
+WHERE c.job_id = j.id;
+
+-- Pooled sequence ids so Hibernate can batch inserts (production runs with ddl-auto=validate)
+-- Each sequence hands out blocks of 50 ids and never moves backwards on a re-run; the column
+-- default keeps plain SQL inserts, like the seed rows below, working on the same sequence
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'companies', 'job_categories', 'skills', 'jobs', 'job_applications', 'saved_searches'] LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_seq');
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, t || '_seq');
+        EXECUTE format('SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(id), 0) FROM %I), (SELECT last_value FROM %I), 1))',
+                       t || '_seq', t, t || '_seq');
+    END LOOP;
+END $$;
+
+DROP SEQUENCE IF EXISTS saved_searches_id_seq;
+
 -- Insert default data
 INSERT INTO job_categories (name, description, is_active, created_at, updated_at) VALUES
 ('Technology', 'Software development, IT, and tech roles', true, NOW(), NOW()),
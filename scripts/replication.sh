@@ -0,0 +1,5 @@
+#!/bin/bash
+# Lets the docker-compose read replica stream WAL from this primary (replica profile)
+set -e
+
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"